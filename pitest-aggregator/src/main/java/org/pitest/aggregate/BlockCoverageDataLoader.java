@@ -1,14 +1,22 @@
 package org.pitest.aggregate;
 
+import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.BlockCoverage;
 import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.export.BinaryCoverageReader;
 import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.util.PitError;
 
 class BlockCoverageDataLoader extends DataLoader<BlockCoverage> {
 
@@ -21,10 +29,28 @@ class BlockCoverageDataLoader extends DataLoader<BlockCoverage> {
 
   private static final String OPEN_PAREN = "(";
 
+  private static final String BINARY_SUFFIX = ".bin";
+
   BlockCoverageDataLoader(final Collection<File> filesToLoad) {
     super(filesToLoad);
   }
 
+  @Override
+  Set<BlockCoverage> loadData(final File dataLocation)
+      throws ReportAggregationException {
+    if (!dataLocation.getName().endsWith(BINARY_SUFFIX)) {
+      return super.loadData(dataLocation);
+    }
+
+    try (InputStream in = new BufferedInputStream(new FileInputStream(
+        dataLocation))) {
+      return new HashSet<>(BinaryCoverageReader.read(in));
+    } catch (final IOException | PitError e) {
+      throw new ReportAggregationException("Could not read file: "
+          + dataLocation.getAbsolutePath(), e);
+    }
+  }
+
   @Override
   protected BlockCoverage mapToData(final Map<String, Object> map) {
     final String method = (String) map.get(METHOD);
@@ -4,16 +4,33 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.net.URL;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Optional;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.export.BinaryCoverageExporter;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.util.ResultOutputStrategy;
+import org.pitest.util.Unchecked;
 
 public class BlockCoverageDataLoaderTest {
 
+  @Rule
+  public TemporaryFolder          folder = new TemporaryFolder();
+
   private BlockCoverageDataLoader underTest;
 
   @Before
@@ -38,4 +55,41 @@ public class BlockCoverageDataLoaderTest {
     }
   }
 
+  @Test
+  public void shouldLoadBinaryCoverage() throws Exception {
+    final File file = new File(this.folder.getRoot(), "linecoverage.bin");
+    final BlockLocation block = new BlockLocation(Location.location(
+        ClassName.fromString("com.example.Divider"),
+        MethodName.fromString("divide"), "(II)I"), 0, 0, 5);
+    new BinaryCoverageExporter(writingTo(file)).recordCoverage(Collections
+        .singletonList(new BlockCoverage(block, Arrays.asList("aTest"))));
+
+    final Collection<BlockCoverage> results = new BlockCoverageDataLoader(
+        Arrays.asList(file)).loadData();
+
+    assertEquals(1, results.size());
+    final BlockCoverage actual = results.iterator().next();
+    assertEquals(block, actual.getBlock());
+    assertEquals(Arrays.asList("aTest"), actual.getTests());
+  }
+
+  private static ResultOutputStrategy writingTo(final File file) {
+    return new ResultOutputStrategy() {
+      @Override
+      public Writer createWriterForFile(final String sourceFile) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public Optional<OutputStream> createOutputStreamForFile(
+          final String name) {
+        try {
+          return Optional.of(new FileOutputStream(file));
+        } catch (final Exception e) {
+          throw Unchecked.translateCheckedException(e);
+        }
+      }
+    };
+  }
+
 }
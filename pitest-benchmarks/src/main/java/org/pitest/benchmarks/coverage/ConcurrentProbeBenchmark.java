@@ -0,0 +1,74 @@
+package org.pitest.benchmarks.coverage;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sun.pitest.CodeCoverageStore;
+
+/**
+ * Time taken to run the workloads from several threads at once, as tests that
+ * start their own threads do, comparing the array probes with the concurrent
+ * ones.
+ *
+ * Each iteration is a single call from each thread, made together after the
+ * store has been reset, so that every measured call races the other threads
+ * to the first hit of each probe, as the threads of a test do.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 50)
+@Measurement(iterations = 100)
+@Fork(2)
+@Threads(4)
+public class ConcurrentProbeBenchmark {
+
+  @Param({ "ARRAY", "CONCURRENT" })
+  public Probes    probes;
+
+  @Param({ "1000" })
+  public int       size;
+
+  private Workload workload;
+
+  @Setup(Level.Trial)
+  public void load() throws ReflectiveOperationException {
+    this.workload = this.probes.load();
+  }
+
+  @Setup(Level.Iteration)
+  public void reset() {
+    // a reset per invocation would clear the store while other threads are
+    // still running, so each iteration holds only one call per thread
+    CodeCoverageStore.reset();
+  }
+
+  @Benchmark
+  public int tightLoop() {
+    return this.workload.tightLoop(this.size);
+  }
+
+  @Benchmark
+  public int deepCallChain() {
+    return this.workload.deepCallChain(this.size);
+  }
+
+  @Benchmark
+  public int exceptions() {
+    return this.workload.exceptions(this.size);
+  }
+
+}
@@ -0,0 +1,75 @@
+package org.pitest.benchmarks.coverage;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import org.pitest.coverage.CoverageTransformer;
+
+/**
+ * Defines its own copy of one class, transformed to record coverage, and
+ * delegates every other class to its parent. The copy can be used through
+ * interfaces loaded by the parent.
+ */
+class InstrumentingLoader extends ClassLoader {
+
+  private final String              target;
+  private final CoverageTransformer transformer;
+
+  InstrumentingLoader(final Class<?> target,
+      final CoverageTransformer transformer) {
+    super(target.getClassLoader());
+    this.target = target.getName();
+    this.transformer = transformer;
+  }
+
+  @Override
+  protected Class<?> loadClass(final String name, final boolean resolve)
+      throws ClassNotFoundException {
+    if (!name.equals(this.target)) {
+      return super.loadClass(name, resolve);
+    }
+    synchronized (getClassLoadingLock(name)) {
+      Class<?> c = findLoadedClass(name);
+      if (c == null) {
+        c = findClass(name);
+      }
+      if (resolve) {
+        resolveClass(c);
+      }
+      return c;
+    }
+  }
+
+  @Override
+  protected Class<?> findClass(final String name)
+      throws ClassNotFoundException {
+    try {
+      final byte[] bytes = this.transformer.transform(this, name.replace('.',
+          '/'), null, null, bytesOf(getParent(), name));
+      return defineClass(name, bytes, 0, bytes.length);
+    } catch (final Exception ex) {
+      throw new ClassNotFoundException(name, ex);
+    }
+  }
+
+  static byte[] bytesOf(final ClassLoader loader, final String name) {
+    try (InputStream in = loader.getResourceAsStream(name.replace('.', '/')
+        + ".class")) {
+      if (in == null) {
+        throw new IllegalArgumentException("Could not find " + name);
+      }
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      final byte[] buffer = new byte[8192];
+      int read;
+      while ((read = in.read(buffer)) != -1) {
+        out.write(buffer, 0, read);
+      }
+      return out.toByteArray();
+    } catch (final IOException ex) {
+      throw new UncheckedIOException(ex);
+    }
+  }
+
+}
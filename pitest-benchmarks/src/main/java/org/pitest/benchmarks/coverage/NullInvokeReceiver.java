@@ -0,0 +1,23 @@
+package org.pitest.benchmarks.coverage;
+
+import org.pitest.coverage.analysis.Block;
+
+import sun.pitest.InvokeReceiver;
+
+/**
+ * Discards class and probe registrations, which a minion would otherwise
+ * send to the main process.
+ */
+class NullInvokeReceiver implements InvokeReceiver {
+
+  @Override
+  public void registerClass(final int id, final String className) {
+  }
+
+  @Override
+  public void registerProbes(final int classId, final String methodName,
+      final String methodDesc, final int firstProbe, final int lastProbe,
+      final Iterable<Block> blocks) {
+  }
+
+}
@@ -0,0 +1,68 @@
+package org.pitest.benchmarks.coverage;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import sun.pitest.CodeCoverageStore;
+
+/**
+ * Time taken to run each workload uninstrumented and with each kind of
+ * coverage probe, from a single thread.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ProbeOverheadBenchmark {
+
+  @Param({ "NONE", "ARRAY", "CONCURRENT" })
+  public Probes    probes;
+
+  @Param({ "1000" })
+  public int       size;
+
+  private Workload workload;
+
+  @Setup(Level.Trial)
+  public void load() throws ReflectiveOperationException {
+    this.workload = this.probes.load();
+  }
+
+  @Setup(Level.Invocation)
+  public void reset() {
+    // cleared before every call, as it is before every test, so that each
+    // call pays for the first hit of its blocks and not only the first call
+    // of an iteration
+    CodeCoverageStore.reset();
+  }
+
+  @Benchmark
+  public int tightLoop() {
+    return this.workload.tightLoop(this.size);
+  }
+
+  @Benchmark
+  public int deepCallChain() {
+    return this.workload.deepCallChain(this.size);
+  }
+
+  @Benchmark
+  public int exceptions() {
+    return this.workload.exceptions(this.size);
+  }
+
+}
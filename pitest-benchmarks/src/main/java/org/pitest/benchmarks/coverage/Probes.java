@@ -0,0 +1,30 @@
+package org.pitest.benchmarks.coverage;
+
+import org.pitest.coverage.CoverageTransformer;
+
+import sun.pitest.CodeCoverageStore;
+
+/**
+ * The ways in which a workload can be loaded.
+ */
+public enum Probes {
+
+  /** Uninstrumented, as a baseline */
+  NONE,
+  /** Probes recorded in a local array, as by default */
+  ARRAY,
+  /** Probes recorded through a synchronized call on first hit */
+  CONCURRENT;
+
+  Workload load() throws ReflectiveOperationException {
+    if (this == NONE) {
+      return new Workloads();
+    }
+    CodeCoverageStore.init(new NullInvokeReceiver());
+    final ClassLoader loader = new InstrumentingLoader(Workloads.class,
+        new CoverageTransformer(name -> true, this == CONCURRENT));
+    return (Workload) loader.loadClass(Workloads.class.getName())
+        .getDeclaredConstructor().newInstance();
+  }
+
+}
@@ -0,0 +1,60 @@
+package org.pitest.benchmarks.coverage;
+
+import java.lang.instrument.IllegalClassFormatException;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.pitest.coverage.CoverageTransformer;
+
+import sun.pitest.CodeCoverageStore;
+
+/**
+ * Time taken to instrument classes of different sizes for coverage.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TransformBenchmark {
+
+  @Param({ "org.pitest.benchmarks.coverage.Workloads", "java.util.ArrayList",
+      "java.util.HashMap", "java.util.concurrent.ConcurrentHashMap" })
+  public String               className;
+
+  @Param({ "false", "true" })
+  public boolean              concurrentProbes;
+
+  private String              internalName;
+  private byte[]              bytes;
+  private ClassLoader         loader;
+  private CoverageTransformer transformer;
+
+  @Setup
+  public void load() {
+    CodeCoverageStore.init(new NullInvokeReceiver());
+    this.internalName = this.className.replace('.', '/');
+    this.loader = TransformBenchmark.class.getClassLoader();
+    this.bytes = InstrumentingLoader.bytesOf(this.loader, this.className);
+    this.transformer = new CoverageTransformer(name -> true,
+        this.concurrentProbes);
+  }
+
+  @Benchmark
+  public byte[] transform() throws IllegalClassFormatException {
+    return this.transformer.transform(this.loader, this.internalName, null,
+        null, this.bytes);
+  }
+
+}
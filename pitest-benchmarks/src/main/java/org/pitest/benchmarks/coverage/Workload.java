@@ -0,0 +1,16 @@
+package org.pitest.benchmarks.coverage;
+
+/**
+ * Code whose execution is timed with and without coverage probes. Benchmarks
+ * call it through this interface so that the same calls reach either the
+ * plain or the instrumented copy of {@link Workloads}.
+ */
+public interface Workload {
+
+  int tightLoop(int iterations);
+
+  int deepCallChain(int depth);
+
+  int exceptions(int count);
+
+}
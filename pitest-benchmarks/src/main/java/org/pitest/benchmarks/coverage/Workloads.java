@@ -0,0 +1,50 @@
+package org.pitest.benchmarks.coverage;
+
+/**
+ * Shapes of code whose cost under instrumentation differs: a loop whose
+ * blocks are hit many times, a chain of short methods each adding its own
+ * probe prologue, and code leaving blocks through exceptions.
+ */
+public class Workloads implements Workload {
+
+  @Override
+  public int tightLoop(final int iterations) {
+    int sum = 0;
+    for (int i = 0; i != iterations; i++) {
+      if ((i & 1) == 0) {
+        sum += i;
+      } else {
+        sum ^= i;
+      }
+    }
+    return sum;
+  }
+
+  @Override
+  public int deepCallChain(final int depth) {
+    if (depth == 0) {
+      return 0;
+    }
+    return deepCallChain(depth - 1) + 1;
+  }
+
+  @Override
+  public int exceptions(final int count) {
+    int caught = 0;
+    for (int i = 0; i != count; i++) {
+      try {
+        fail(i);
+      } catch (final IllegalStateException ex) {
+        caught++;
+      }
+    }
+    return caught;
+  }
+
+  private static void fail(final int i) {
+    if (i >= 0) {
+      throw new IllegalStateException();
+    }
+  }
+
+}
@@ -14,11 +14,17 @@
  */
 package org.pitest.mutationtest.commandline;
 
+import static org.pitest.mutationtest.config.ConfigOption.ADAPTIVE_TIMEOUTS;
 import static org.pitest.mutationtest.config.ConfigOption.AVOID_CALLS;
+import static org.pitest.mutationtest.config.ConfigOption.BINARY_LINE_COVERAGE;
 import static org.pitest.mutationtest.config.ConfigOption.CHILD_JVM;
 import static org.pitest.mutationtest.config.ConfigOption.CLASSPATH;
 import static org.pitest.mutationtest.config.ConfigOption.CLASSPATH_FILE;
+import static org.pitest.mutationtest.config.ConfigOption.CLASSPATH_INDEX_CACHE;
+import static org.pitest.mutationtest.config.ConfigOption.CLASS_DATA_SHARING_ARCHIVES;
+import static org.pitest.mutationtest.config.ConfigOption.COVERAGE_CACHE;
 import static org.pitest.mutationtest.config.ConfigOption.CODE_PATHS;
+import static org.pitest.mutationtest.config.ConfigOption.CONCURRENT_COVERAGE_PROBES;
 import static org.pitest.mutationtest.config.ConfigOption.COVERAGE_THRESHOLD;
 import static org.pitest.mutationtest.config.ConfigOption.DEPENDENCY_DISTANCE;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_CLASSES;
@@ -29,6 +35,8 @@ import static org.pitest.mutationtest.config.ConfigOption.EXPORT_LINE_COVERAGE;
 import static org.pitest.mutationtest.config.ConfigOption.FAIL_WHEN_NOT_MUTATIONS;
 import static org.pitest.mutationtest.config.ConfigOption.FEATURES;
 import static org.pitest.mutationtest.config.ConfigOption.FULL_MUTATION_MATRIX;
+import static org.pitest.mutationtest.config.ConfigOption.GENERATE_MUTANTS_DURING_COVERAGE;
+import static org.pitest.mutationtest.config.ConfigOption.GENERATE_MUTANTS_IN_PARENT;
 import static org.pitest.mutationtest.config.ConfigOption.HISTORY_INPUT_LOCATION;
 import static org.pitest.mutationtest.config.ConfigOption.HISTORY_OUTPUT_LOCATION;
 import static org.pitest.mutationtest.config.ConfigOption.INCLUDED_GROUPS;
@@ -37,12 +45,15 @@ import static org.pitest.mutationtest.config.ConfigOption.INCLUDE_LAUNCH_CLASSPA
 import static org.pitest.mutationtest.config.ConfigOption.JVM_PATH;
 import static org.pitest.mutationtest.config.ConfigOption.MAX_MUTATIONS_PER_CLASS;
 import static org.pitest.mutationtest.config.ConfigOption.MAX_SURVIVING;
+import static org.pitest.mutationtest.config.ConfigOption.MINION_REUSE_LIMIT;
+import static org.pitest.mutationtest.config.ConfigOption.MUTANT_SCHEMATA;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATIONS;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_ENGINE;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_THRESHOLD;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_UNIT_SIZE;
 import static org.pitest.mutationtest.config.ConfigOption.OUTPUT_FORMATS;
 import static org.pitest.mutationtest.config.ConfigOption.PLUGIN_CONFIGURATION;
+import static org.pitest.mutationtest.config.ConfigOption.RECOVER_FROM_TIMEOUTS;
 import static org.pitest.mutationtest.config.ConfigOption.REPORT_DIR;
 import static org.pitest.mutationtest.config.ConfigOption.SOURCE_DIR;
 import static org.pitest.mutationtest.config.ConfigOption.TARGET_CLASSES;
@@ -100,6 +111,9 @@ public class OptionsParser {
   private final OptionSpec<File>                     sourceDirSpec;
   private final OptionSpec<File>                     historyOutputSpec;
   private final OptionSpec<File>                     historyInputSpec;
+  private final OptionSpec<File>                     classPathIndexCacheSpec;
+  private final OptionSpec<File>                     classDataSharingArchivesSpec;
+  private final OptionSpec<File>                     coverageCacheSpec;
   private final OptionSpec<String>                   mutators;
   private final OptionSpec<String>                   features;
   private final OptionSpec<String>                   jvmArgs;
@@ -119,6 +133,9 @@ public class OptionsParser {
   private final OptionSpec<String>                   includedTestMethodsSpec;
   private final ArgumentAcceptingOptionSpec<Boolean> fullMutationMatrixSpec;
   private final OptionSpec<Integer>                  mutationUnitSizeSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> generateMutantsInParentSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> mutantSchemataSpec;
+  private final OptionSpec<Integer>                  minionReuseLimitSpec;
   private final ArgumentAcceptingOptionSpec<Boolean> timestampedReportsSpec;
   private final ArgumentAcceptingOptionSpec<Boolean> detectInlinedCode;
   private final ArgumentAcceptingOptionSpec<Integer> mutationThreshHoldSpec;
@@ -126,6 +143,11 @@ public class OptionsParser {
   private final ArgumentAcceptingOptionSpec<Integer> maxSurvivingSpec;
   private final OptionSpec<String>                   mutationEngine;
   private final ArgumentAcceptingOptionSpec<Boolean> exportLineCoverageSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> binaryLineCoverageSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> concurrentCoverageProbesSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> generateMutantsDuringCoverageSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> recoverFromTimeoutsSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> adaptiveTimeoutsSpec;
   private final OptionSpec<String>                   javaExecutable;
   private final OptionSpec<KeyValuePair>             pluginPropertiesSpec;
   private final OptionSpec<String>                   testPluginSpec;
@@ -257,6 +279,41 @@ public class OptionsParser {
         .describedAs(
             "whether or not to dump per test line coverage data to disk");
 
+    this.binaryLineCoverageSpec = parserAccepts(BINARY_LINE_COVERAGE)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(BINARY_LINE_COVERAGE.getDefault(Boolean.class))
+        .describedAs(
+            "whether to dump line coverage in a compact binary format rather than as xml");
+
+    this.concurrentCoverageProbesSpec = parserAccepts(CONCURRENT_COVERAGE_PROBES)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(CONCURRENT_COVERAGE_PROBES.getDefault(Boolean.class))
+        .describedAs(
+            "whether to use coverage probes suited to tests that run code on many threads");
+
+    this.generateMutantsDuringCoverageSpec = parserAccepts(GENERATE_MUTANTS_DURING_COVERAGE)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(GENERATE_MUTANTS_DURING_COVERAGE.getDefault(Boolean.class))
+        .describedAs(
+            "whether to find mutations while coverage is being gathered");
+
+    this.recoverFromTimeoutsSpec = parserAccepts(RECOVER_FROM_TIMEOUTS)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(RECOVER_FROM_TIMEOUTS.getDefault(Boolean.class))
+        .describedAs(
+            "whether to carry on in the same minion after a test times out");
+
+    this.adaptiveTimeoutsSpec = parserAccepts(ADAPTIVE_TIMEOUTS)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .defaultsTo(ADAPTIVE_TIMEOUTS.getDefault(Boolean.class))
+        .describedAs(
+            "whether to base the time allowed for each test on its duration against earlier mutants");
+
     this.useClasspathJarSpec = parserAccepts(USE_CLASSPATH_JAR)
         .withOptionalArg()
         .ofType(Boolean.class)
@@ -323,6 +380,25 @@ public class OptionsParser {
             "Maximum number of mutations to include within a single unit of analysis")
             .defaultsTo(MUTATION_UNIT_SIZE.getDefault(Integer.class));
 
+    this.minionReuseLimitSpec = parserAccepts(MINION_REUSE_LIMIT)
+        .withRequiredArg()
+        .ofType(Integer.class)
+        .describedAs(
+            "Number of mutations a minion may analyse before it is replaced. If set to 0 a new minion is launched for every unit of analysis")
+            .defaultsTo(MINION_REUSE_LIMIT.getDefault(Integer.class));
+
+    this.generateMutantsInParentSpec = parserAccepts(GENERATE_MUTANTS_IN_PARENT)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .describedAs("Generate mutant bytecode once in the main process and send it to minions rather than regenerating it in each minion")
+        .defaultsTo(GENERATE_MUTANTS_IN_PARENT.getDefault(Boolean.class));
+
+    this.mutantSchemataSpec = parserAccepts(MUTANT_SCHEMATA)
+        .withOptionalArg()
+        .ofType(Boolean.class)
+        .describedAs("Combine the mutants of each class into a single class and enable them in turn rather than hot swapping each mutant")
+        .defaultsTo(MUTANT_SCHEMATA.getDefault(Boolean.class));
+
     this.historyInputSpec = parserAccepts(HISTORY_INPUT_LOCATION)
         .withRequiredArg().ofType(File.class)
         .describedAs("File to read history from for incremental analysis");
@@ -331,6 +407,18 @@ public class OptionsParser {
         .withRequiredArg().ofType(File.class)
         .describedAs("File to write history to for incremental analysis");
 
+    this.classPathIndexCacheSpec = parserAccepts(CLASSPATH_INDEX_CACHE)
+        .withRequiredArg().ofType(File.class)
+        .describedAs("Directory in which to store indexes of classpath archives between runs");
+
+    this.classDataSharingArchivesSpec = parserAccepts(CLASS_DATA_SHARING_ARCHIVES)
+        .withRequiredArg().ofType(File.class)
+        .describedAs("Directory in which to store class data sharing archives for minions");
+
+    this.coverageCacheSpec = parserAccepts(COVERAGE_CACHE)
+        .withRequiredArg().ofType(File.class)
+        .describedAs("File in which to store coverage between runs");
+
     this.mutationThreshHoldSpec = parserAccepts(MUTATION_THRESHOLD)
         .withRequiredArg().ofType(Integer.class)
         .describedAs("Mutation score below which to throw an error")
@@ -427,7 +515,17 @@ public class OptionsParser {
                     || this.failWhenNoMutations.value(userArgs));
     data.setCodePaths(this.codePaths.values(userArgs));
     data.setMutationUnitSize(this.mutationUnitSizeSpec.value(userArgs));
+    data.setGenerateMutantsInParent(
+            (userArgs.has(this.generateMutantsInParentSpec) && !userArgs.hasArgument(this.generateMutantsInParentSpec))
+                    || this.generateMutantsInParentSpec.value(userArgs));
+    data.setMutantSchemata(
+            (userArgs.has(this.mutantSchemataSpec) && !userArgs.hasArgument(this.mutantSchemataSpec))
+                    || this.mutantSchemataSpec.value(userArgs));
+    data.setMinionReuseLimit(this.minionReuseLimitSpec.value(userArgs));
     data.setHistoryInputLocation(this.historyInputSpec.value(userArgs));
+    data.setClassPathIndexCache(this.classPathIndexCacheSpec.value(userArgs));
+    data.setClassDataSharingArchives(this.classDataSharingArchivesSpec.value(userArgs));
+    data.setCoverageCache(this.coverageCacheSpec.value(userArgs));
     data.setHistoryOutputLocation(this.historyOutputSpec.value(userArgs));
     data.setMutationThreshold(this.mutationThreshHoldSpec.value(userArgs));
     data.setMaximumAllowedSurvivors(this.maxSurvivingSpec.value(userArgs));
@@ -437,6 +535,21 @@ public class OptionsParser {
     data.setExportLineCoverage(
             (userArgs.has(this.exportLineCoverageSpec) && !userArgs.hasArgument(this.exportLineCoverageSpec))
                     || this.exportLineCoverageSpec.value(userArgs));
+    data.setBinaryLineCoverage(
+            (userArgs.has(this.binaryLineCoverageSpec) && !userArgs.hasArgument(this.binaryLineCoverageSpec))
+                    || this.binaryLineCoverageSpec.value(userArgs));
+    data.setConcurrentCoverageProbes(
+            (userArgs.has(this.concurrentCoverageProbesSpec) && !userArgs.hasArgument(this.concurrentCoverageProbesSpec))
+                    || this.concurrentCoverageProbesSpec.value(userArgs));
+    data.setGenerateMutantsDuringCoverage(
+            (userArgs.has(this.generateMutantsDuringCoverageSpec) && !userArgs.hasArgument(this.generateMutantsDuringCoverageSpec))
+                    || this.generateMutantsDuringCoverageSpec.value(userArgs));
+    data.setRecoverFromTimeouts(
+            (userArgs.has(this.recoverFromTimeoutsSpec) && !userArgs.hasArgument(this.recoverFromTimeoutsSpec))
+                    || this.recoverFromTimeoutsSpec.value(userArgs));
+    data.setAdaptiveTimeouts(
+            (userArgs.has(this.adaptiveTimeoutsSpec) && !userArgs.hasArgument(this.adaptiveTimeoutsSpec))
+                    || this.adaptiveTimeoutsSpec.value(userArgs));
 
     setClassPath(userArgs, data);
 
@@ -390,6 +390,13 @@ public class OptionsParserTest {
     assertEquals(50, actual.getMutationUnitSize());
   }
 
+  @Test
+  public void shouldParseMinionReuseLimit() {
+    final ReportOptions actual = parseAddingRequiredArgs("--minionReuseLimit",
+        "500");
+    assertEquals(500, actual.getMinionReuseLimit());
+  }
+
   @Test
   public void shouldDefaultMutationUnitSizeToCorrectValue() {
     final ReportOptions actual = parseAddingRequiredArgs();
@@ -405,6 +412,45 @@ public class OptionsParserTest {
     assertNull(actual.getHistoryOutputLocation());
   }
 
+  @Test
+  public void shouldParseClassPathIndexCache() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--classPathIndexCache", "foo");
+    assertEquals(new File("foo"), actual.getClassPathIndexCache());
+  }
+
+  @Test
+  public void shouldNotCacheClassPathIndexByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertNull(actual.getClassPathIndexCache());
+  }
+
+  @Test
+  public void shouldParseClassDataSharingArchives() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--classDataSharingArchives", "foo");
+    assertEquals(new File("foo"), actual.getClassDataSharingArchives());
+  }
+
+  @Test
+  public void shouldNotShareClassDataByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertNull(actual.getClassDataSharingArchives());
+  }
+
+  @Test
+  public void shouldParseCoverageCache() {
+    final ReportOptions actual = parseAddingRequiredArgs("--coverageCache",
+        "foo");
+    assertEquals(new File("foo"), actual.getCoverageCache());
+  }
+
+  @Test
+  public void shouldNotCacheCoverageByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertNull(actual.getCoverageCache());
+  }
+
   @Test
   public void shouldParseHistoryInputLocation() {
     final ReportOptions actual = parseAddingRequiredArgs(
@@ -489,6 +535,66 @@ public class OptionsParserTest {
     assertFalse(actual.shouldExportLineCoverage());
   }
 
+  @Test
+  public void shouldNotExportBinaryLineCoverageByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertFalse(actual.isBinaryLineCoverage());
+  }
+
+  @Test
+  public void shouldDetermineIfBinaryLineCoverageFlagIsSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("--binaryLineCoverage");
+    assertTrue(actual.isBinaryLineCoverage());
+  }
+
+  @Test
+  public void shouldNotUseConcurrentCoverageProbesByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertFalse(actual.isConcurrentCoverageProbes());
+  }
+
+  @Test
+  public void shouldUseConcurrentCoverageProbesWhenFlagIsSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("--concurrentCoverageProbes");
+    assertTrue(actual.isConcurrentCoverageProbes());
+  }
+
+  @Test
+  public void shouldNotGenerateMutantsDuringCoverageByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertFalse(actual.isGenerateMutantsDuringCoverage());
+  }
+
+  @Test
+  public void shouldGenerateMutantsDuringCoverageWhenFlagIsSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("--generateMutantsDuringCoverage");
+    assertTrue(actual.isGenerateMutantsDuringCoverage());
+  }
+
+  @Test
+  public void shouldNotRecoverFromTimeoutsByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertFalse(actual.isRecoverFromTimeouts());
+  }
+
+  @Test
+  public void shouldRecoverFromTimeoutsWhenFlagIsSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("--recoverFromTimeouts");
+    assertTrue(actual.isRecoverFromTimeouts());
+  }
+
+  @Test
+  public void shouldNotUseAdaptiveTimeoutsByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertFalse(actual.isAdaptiveTimeouts());
+  }
+
+  @Test
+  public void shouldUseAdaptiveTimeoutsWhenFlagIsSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("--adaptiveTimeouts");
+    assertTrue(actual.isAdaptiveTimeouts());
+  }
+
   @Test
   public void shouldIncludeLaunchClasspathByDefault() {
     final ReportOptions actual = parseAddingRequiredArgs();
@@ -600,6 +706,30 @@ public class OptionsParserTest {
     assertFalse(actual.isFullMutationMatrix());
   }
 
+  @Test
+  public void shouldGenerateMutantsInParentWhenFlagIsSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("--generateMutantsInParent");
+    assertTrue(actual.isGenerateMutantsInParent());
+  }
+
+  @Test
+  public void shouldNotGenerateMutantsInParentByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertFalse(actual.isGenerateMutantsInParent());
+  }
+
+  @Test
+  public void shouldUseMutantSchemataWhenFlagIsSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("--mutantSchemata");
+    assertTrue(actual.isMutantSchemata());
+  }
+
+  @Test
+  public void shouldNotUseMutantSchemataByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertFalse(actual.isMutantSchemata());
+  }
+
   private String getNonCanonicalGregorEngineClassPath() {
     final String gregorEngineClassPath = GregorMutationEngine.class
         .getProtectionDomain().getCodeSource().getLocation().getFile();
@@ -17,8 +17,10 @@ package org.pitest.coverage;
 
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -26,67 +28,93 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
-import java.util.TreeSet;
 import java.util.function.BiFunction;
 import java.util.function.Function;
-import java.util.function.Predicate;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.pitest.classinfo.ClassInfo;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.CodeSource;
 import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.testapi.Description;
 import org.pitest.util.Log;
 
+/**
+ * Coverage held compactly enough for large code bases.
+ *
+ * Each test is stored once and referred to by an int id. Coverage is
+ * partitioned by class, and for each block holds the sorted ids of the tests
+ * that visited it. Every instruction in a block has the same coverage, so
+ * instructions are resolved to their block on lookup rather than stored.
+ */
 public class CoverageData implements CoverageDatabase {
 
-  private static final Logger                                 LOG           = Log
+  private static final Logger                   LOG                     = Log
       .getLogger();
 
-  // We calculate block coverage, but everything currently runs on line
-  // coverage. Ugly mess of maps below should go when
-  // api changed to work via blocks
-  private final Map<InstructionLocation, Set<TestInfo>>       instructionCoverage;
-  private final Map<BlockLocation, Set<Integer>>              blocksToLines = new LinkedHashMap<>();
-  private final Map<ClassName, Map<ClassLine, Set<TestInfo>>> lineCoverage  = new LinkedHashMap<>();
-  private final Map<String, Collection<ClassInfo>>            classesForFile;
+  private final List<TestInfo>                  tests                   = new ArrayList<>();
+  // tests are distinguished by name, the first to report under a name is kept
+  private final Map<String, Integer>            testIds                 = new HashMap<>();
+  private final Map<ClassName, ClassCoverage>   classCoverage           = new LinkedHashMap<>();
+  private final Map<String, Collection<ClassInfo>> classesForFile;
 
-  private final CodeSource                                    code;
+  private final CodeSource                      code;
 
-  private final LineMap                                       lm;
+  private final LineMap                         lm;
 
-  private final List<Description>                             failingTestDescriptions = new ArrayList<>();
+  private final List<Description>               failingTestDescriptions = new ArrayList<>();
 
   public CoverageData(final CodeSource code, final LineMap lm) {
-    this(code, lm, new LinkedHashMap<InstructionLocation, Set<TestInfo>>());
+    this(code, lm, Collections.<InstructionLocation, Set<TestInfo>> emptyMap());
   }
 
 
   public CoverageData(final CodeSource code, final LineMap lm, Map<InstructionLocation, Set<TestInfo>> instructionCoverage) {
-    this.instructionCoverage = instructionCoverage;
     this.code = code;
     this.lm = lm;
     this.classesForFile = FCollection.bucket(this.code.getCode(),
         keyFromClassInfo());
+    for (final Entry<InstructionLocation, Set<TestInfo>> each : instructionCoverage
+        .entrySet()) {
+      final TestIdSet blockTests = testsForBlock(each.getKey()
+          .getBlockLocation());
+      for (final TestInfo ti : each.getValue()) {
+        blockTests.add(idFor(ti));
+      }
+    }
   }
 
   @Override
   public Collection<TestInfo> getTestsForInstructionLocation(
       InstructionLocation location) {
-    return this.instructionCoverage.get(location);
+    final Location method = location.getBlockLocation().getLocation();
+    final ClassCoverage coverage = this.classCoverage.get(method
+        .getClassName());
+    if (coverage == null) {
+      return Collections.emptyList();
+    }
+
+    final BitSet ids = new BitSet();
+    for (final BlockLocation each : coverage.blocksIn(method)) {
+      if ((each.getFirstInsnInBlock() <= location.getInstructionIndex())
+          && (location.getInstructionIndex() <= each.getLastInsnInBlock())) {
+        coverage.blocks.get(each).addTo(ids);
+      }
+    }
+    return toTests(ids);
   }
 
   @Override
   public Collection<TestInfo> getTestsForClassLine(final ClassLine classLine) {
-    final Collection<TestInfo> result = getTestsForClassName(
+    final TestIdSet result = getTestsForClassName(
         classLine.getClassName()).get(classLine);
     if (result == null) {
       return Collections.emptyList();
     } else {
-      return result;
+      final BitSet ids = new BitSet();
+      result.addTo(ids);
+      return toTests(ids);
     }
   }
 
@@ -114,13 +142,19 @@ public class CoverageData implements CoverageDatabase {
 
   @Override
   public Collection<TestInfo> getTestsForClass(final ClassName clazz) {
-    final Set<TestInfo> tis = new TreeSet<>(
-        new TestInfoNameComparator());
-    tis.addAll(this.instructionCoverage.entrySet().stream().filter(isFor(clazz))
-        .flatMap(toTests())
-        .collect(Collectors.toList())
-        );
-    return tis;
+    final ClassCoverage coverage = this.classCoverage.get(clazz);
+    if (coverage == null) {
+      return Collections.emptyList();
+    }
+
+    if (coverage.tests == null) {
+      final BitSet ids = new BitSet();
+      for (final TestIdSet each : coverage.blocks.values()) {
+        each.addTo(ids);
+      }
+      coverage.tests = Collections.unmodifiableList(toTests(ids));
+    }
+    return coverage.tests;
   }
 
   public void calculateClassCoverage(final CoverageResult cr) {
@@ -128,40 +162,68 @@ public class CoverageData implements CoverageDatabase {
     checkForFailedTest(cr);
     final TestInfo ti = this.createTestInfo(cr.getTestUnitDescription(),
         cr.getExecutionTime(), cr.getNumberOfCoveredBlocks());
+    final int id = idFor(ti);
     for (final BlockLocation each : cr.getCoverage()) {
-      for (int i = each.getFirstInsnInBlock();
-           i <= each.getLastInsnInBlock(); i++) {
-        addTestsToBlockMap(ti, new InstructionLocation(each, i));
-      }
+      testsForBlock(each).add(id);
     }
   }
 
-  private void addTestsToBlockMap(final TestInfo ti, InstructionLocation each) {
-    Set<TestInfo> tests = this.instructionCoverage.get(each);
-    if (tests == null) {
-      tests = new TreeSet<>(new TestInfoNameComparator());
-      this.instructionCoverage.put(each, tests);
+  private int idFor(final TestInfo ti) {
+    final Integer known = this.testIds.get(ti.getName());
+    if (known != null) {
+      return known;
     }
-    tests.add(ti);
+    final int id = this.tests.size();
+    this.tests.add(ti);
+    this.testIds.put(ti.getName(), id);
+    return id;
+  }
+
+  private TestIdSet testsForBlock(final BlockLocation block) {
+    ClassCoverage coverage = this.classCoverage.get(block.getLocation()
+        .getClassName());
+    if (coverage == null) {
+      coverage = new ClassCoverage();
+      this.classCoverage.put(block.getLocation().getClassName(), coverage);
+    }
+    return coverage.testsFor(block);
+  }
+
+  private List<TestInfo> toTests(final BitSet ids) {
+    final List<TestInfo> tis = new ArrayList<>(ids.cardinality());
+    for (int i = ids.nextSetBit(0); i >= 0; i = ids.nextSetBit(i + 1)) {
+      tis.add(this.tests.get(i));
+    }
+    Collections.sort(tis, new TestInfoNameComparator());
+    return tis;
   }
 
   @Override
   public BigInteger getCoverageIdForClass(final ClassName clazz) {
-    final Map<ClassLine, Set<TestInfo>> coverage = getTestsForClassName(clazz);
+    final Map<ClassLine, TestIdSet> coverage = getTestsForClassName(clazz);
     if (coverage.isEmpty()) {
       return BigInteger.ZERO;
     }
 
-    return generateCoverageNumber(coverage);
+    final ClassCoverage classCoverage = this.classCoverage.get(clazz);
+    if (classCoverage.coverageId == null) {
+      classCoverage.coverageId = generateCoverageNumber(coverage);
+    }
+    return classCoverage.coverageId;
   }
 
   public List<BlockCoverage> createCoverage() {
-    return FCollection.map(this.instructionCoverage.entrySet(), toBlockCoverage());
-  }
-
-  private static Function<Entry<InstructionLocation, Set<TestInfo>>, BlockCoverage> toBlockCoverage() {
-    return a -> new BlockCoverage(a.getKey().getBlockLocation(), FCollection.map(a.getValue(),
-        TestInfo.toName()));
+    final List<BlockCoverage> blocks = new ArrayList<>();
+    for (final ClassCoverage each : this.classCoverage.values()) {
+      for (final Entry<BlockLocation, TestIdSet> block : each.blocks
+          .entrySet()) {
+        final BitSet ids = new BitSet();
+        block.getValue().addTo(ids);
+        blocks.add(new BlockCoverage(block.getKey(), FCollection.map(
+            toTests(ids), TestInfo.toName())));
+      }
+    }
+    return blocks;
   }
 
   @Override
@@ -186,10 +248,15 @@ public class CoverageData implements CoverageDatabase {
   }
 
   private BigInteger generateCoverageNumber(
-      final Map<ClassLine, Set<TestInfo>> coverage) {
+      final Map<ClassLine, TestIdSet> coverage) {
     BigInteger coverageNumber = BigInteger.ZERO;
+    final BitSet ids = new BitSet();
+    for (final TestIdSet each : coverage.values()) {
+      each.addTo(ids);
+    }
     final Set<ClassName> testClasses = new HashSet<>();
-    FCollection.flatMapTo(coverage.values(), testsToClassName(), testClasses);
+    FCollection.mapTo(toTests(ids), TestInfo.toDefiningClassName(),
+        testClasses);
 
     for (final ClassInfo each : this.code.getClassInfo(testClasses)) {
       coverageNumber = coverageNumber.add(each.getDeepHash());
@@ -198,10 +265,6 @@ public class CoverageData implements CoverageDatabase {
     return coverageNumber;
   }
 
-  private Function<Set<TestInfo>, Iterable<ClassName>> testsToClassName() {
-    return a -> FCollection.map(a, TestInfo.toDefiningClassName());
-  }
-
   private static Function<ClassInfo, String> keyFromClassInfo() {
 
     return c -> keyFromSourceAndPackage(c.getSourceFileName(), c.getName()
@@ -252,90 +315,91 @@ public class CoverageData implements CoverageDatabase {
   }
 
   private int getNumberOfCoveredLines(final ClassName clazz) {
-    final Map<ClassLine, Set<TestInfo>> map = getTestsForClassName(clazz);
-    if (map != null) {
-      return map.size();
-    } else {
-      return 0;
-    }
-
+    return getTestsForClassName(clazz).size();
   }
 
-  private Map<ClassLine, Set<TestInfo>> getTestsForClassName(
+  private Map<ClassLine, TestIdSet> getTestsForClassName(
       final ClassName clazz) {
     // Use any test that provided some coverage of the class
     // This fails to consider tests that only accessed a static variable
     // of the class in question as this does not register as coverage.
-    final Map<ClassLine, Set<TestInfo>> map = this.lineCoverage.get(clazz);
-    if (map != null) {
-      return map;
+    final ClassCoverage coverage = this.classCoverage.get(clazz);
+    if (coverage == null) {
+      return Collections.emptyMap();
     }
 
-    return convertInstructionCoverageToLineCoverageForClass(clazz);
-
+    if (coverage.lines == null) {
+      coverage.lines = convertBlockCoverageToLineCoverage(clazz, coverage);
+    }
+    return coverage.lines;
   }
 
-  private Map<ClassLine, Set<TestInfo>> convertInstructionCoverageToLineCoverageForClass(
-      ClassName clazz) {
-    final List<Entry<InstructionLocation, Set<TestInfo>>> tests = FCollection.filter(
-        this.instructionCoverage.entrySet(), isFor(clazz));
+  private Map<ClassLine, TestIdSet> convertBlockCoverageToLineCoverage(
+      final ClassName clazz, final ClassCoverage coverage) {
+    final Map<BlockLocation, Set<Integer>> blocksToLines = this.lm
+        .mapLines(clazz);
+    final Map<ClassLine, TestIdSet> linesToTests = new LinkedHashMap<>(0);
 
-    final Map<ClassLine, Set<TestInfo>> linesToTests = new LinkedHashMap<>(
-        0);
-
-    for (final Entry<InstructionLocation, Set<TestInfo>> each : tests) {
-      for (final int line : getLinesForBlock(each.getKey().getBlockLocation())) {
-        final Set<TestInfo> tis = getLineTestSet(clazz, linesToTests, each, line);
+    for (final Entry<BlockLocation, TestIdSet> each : coverage.blocks
+        .entrySet()) {
+      final Set<Integer> lines = blocksToLines.get(each.getKey());
+      if (lines == null) {
+        continue;
+      }
+      for (final int line : lines) {
+        final ClassLine cl = new ClassLine(clazz, line);
+        TestIdSet tis = linesToTests.get(cl);
+        if (tis == null) {
+          tis = new TestIdSet();
+          linesToTests.put(cl, tis);
+        }
         tis.addAll(each.getValue());
       }
     }
 
-    this.lineCoverage.put(clazz, linesToTests);
     return linesToTests;
   }
 
-  private static Set<TestInfo> getLineTestSet(ClassName clazz,
-      Map<ClassLine, Set<TestInfo>> linesToTests,
-      Entry<InstructionLocation, Set<TestInfo>> each, int line) {
-    final ClassLine cl = new ClassLine(clazz, line);
-    Set<TestInfo> tis = linesToTests.get(cl);
-    if (tis == null) {
-      tis = new TreeSet<>(new TestInfoNameComparator());
-      tis.addAll(each.getValue());
-      linesToTests.put(new ClassLine(clazz, line), tis);
-    }
-    return tis;
+  private void recordTestFailure(final Description testDescription) {
+    this.failingTestDescriptions.add(testDescription);
   }
 
-  private Set<Integer> getLinesForBlock(BlockLocation bl) {
-    Set<Integer> lines = this.blocksToLines.get(bl);
-    if (lines == null) {
-      calculateLinesForBlocks(bl.getLocation().getClassName());
-      lines = this.blocksToLines.get(bl);
-      if (lines == null) {
-        lines = Collections.emptySet();
+  /**
+   * Coverage of the blocks of a single class
+   */
+  private static final class ClassCoverage {
+
+    private final Map<BlockLocation, TestIdSet>       blocks  = new LinkedHashMap<>();
+    private final Map<Location, List<BlockLocation>>  methods = new HashMap<>();
+
+    // summaries are calculated on first use, and discarded if more coverage
+    // is then added to the class
+    private Map<ClassLine, TestIdSet>                 lines;
+    private List<TestInfo>                            tests;
+    private BigInteger                                coverageId;
+
+    TestIdSet testsFor(final BlockLocation block) {
+      this.lines = null;
+      this.tests = null;
+      this.coverageId = null;
+      TestIdSet tests = this.blocks.get(block);
+      if (tests == null) {
+        tests = new TestIdSet();
+        this.blocks.put(block, tests);
+        this.methods.computeIfAbsent(block.getLocation(),
+            k -> new ArrayList<>()).add(block);
       }
+      return tests;
     }
 
-    return lines;
-  }
-
-  private void calculateLinesForBlocks(ClassName className) {
-    final Map<BlockLocation, Set<Integer>> lines = this.lm.mapLines(className);
-    this.blocksToLines.putAll(lines);
-  }
-
-  private void recordTestFailure(final Description testDescription) {
-    this.failingTestDescriptions.add(testDescription);
-  }
-
-  private Function<Entry<InstructionLocation, Set<TestInfo>>, Stream<TestInfo>> toTests() {
-    return a -> a.getValue().stream();
-  }
+    List<BlockLocation> blocksIn(final Location method) {
+      final List<BlockLocation> blocks = this.methods.get(method);
+      if (blocks == null) {
+        return Collections.emptyList();
+      }
+      return blocks;
+    }
 
-  private Predicate<Entry<InstructionLocation, Set<TestInfo>>> isFor(
-      final ClassName clazz) {
-    return a -> a.getKey().isFor(clazz);
   }
 
 }
@@ -4,6 +4,21 @@ import java.util.Collection;
 
 public interface CoverageExporter {
 
+  /**
+   * Called with the coverage of each test as soon as it is known, so that
+   * exporters able to do so can write coverage incrementally.
+   */
+  default void recordTest(final CoverageResult result) {
+
+  }
+
+  /**
+   * Called once all coverage has been gathered.
+   */
+  default void recordCoverage(final CoverageData coverage) {
+    recordCoverage(coverage.createCoverage());
+  }
+
   void recordCoverage(Collection<BlockCoverage> coverage);
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,59 @@
+package org.pitest.coverage;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Set of test ids held as a sorted array of ints.
+ *
+ * Ids are allocated in the order tests complete, so nearly every id added is
+ * larger than those already held and is simply appended.
+ */
+final class TestIdSet {
+
+  private int[] ids = new int[2];
+  private int   size;
+
+  void add(final int id) {
+    if ((this.size == 0) || (this.ids[this.size - 1] < id)) {
+      insertAt(this.size, id);
+      return;
+    }
+
+    final int position = Arrays.binarySearch(this.ids, 0, this.size, id);
+    if (position < 0) {
+      insertAt(-(position + 1), id);
+    }
+  }
+
+  void addAll(final TestIdSet other) {
+    for (int i = 0; i != other.size; i++) {
+      add(other.ids[i]);
+    }
+  }
+
+  void addTo(final BitSet bits) {
+    for (int i = 0; i != this.size; i++) {
+      bits.set(this.ids[i]);
+    }
+  }
+
+  boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  int size() {
+    return this.size;
+  }
+
+  private void insertAt(final int position, final int id) {
+    if (this.size == this.ids.length) {
+      this.ids = Arrays.copyOf(this.ids, this.size + (this.size >> 1) + 1);
+    }
+    System.arraycopy(this.ids, position, this.ids, position + 1, this.size
+        - position);
+    this.ids[position] = id;
+    this.size++;
+  }
+
+}
@@ -0,0 +1,311 @@
+package org.pitest.coverage.execute;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.CodeSource;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.process.LaunchOptions;
+import org.pitest.testapi.Description;
+import org.pitest.util.Log;
+
+/**
+ * Stores the coverage of each test class between runs, so that test classes
+ * need not be run again while they and the code they cover are unchanged.
+ *
+ * The coverage of a test class is reused only if the class, its parent and
+ * outer classes, and every class its tests covered have the same hashes as
+ * when the coverage was stored. As classes in the test roots that are not
+ * themselves tests may change the behaviour of any test without being
+ * covered, nothing is reused if any of them has changed.
+ *
+ * Nothing is reused either if the coverage or launch options differ, if a
+ * code or test class has been added or removed, or if an archive on the
+ * classpath has changed size or modification time. Directories on the
+ * classpath outside the project are not checked.
+ */
+public class CoverageCache {
+
+  private static final Logger LOG            = Log.getLogger();
+
+  private static final int    FORMAT_VERSION = 2;
+
+  private final File          file;
+  private final String        configuration;
+
+  public CoverageCache(final File file, final CoverageOptions coverageOptions,
+      final LaunchOptions launchOptions) {
+    this.file = file;
+    this.configuration = describe(coverageOptions, launchOptions);
+  }
+
+  /**
+   * Reads the stored coverage of all test classes that are unchanged.
+   *
+   * @param code
+   *          current code, against which stored hashes are checked
+   * @return results of each test of the reusable test classes
+   */
+  public Map<ClassName, List<CoverageResult>> read(final CodeSource code) {
+    if (!this.file.exists()) {
+      return Collections.emptyMap();
+    }
+
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+        new FileInputStream(this.file)))) {
+      if ((in.readInt() != FORMAT_VERSION)
+          || !in.readUTF().equals(fingerprint(code))) {
+        LOG.fine("Stored coverage is out of date");
+        return Collections.emptyMap();
+      }
+
+      final Map<ClassName, List<CoverageResult>> reusable = new HashMap<>();
+      final int testClasses = in.readInt();
+      for (int i = 0; i != testClasses; i++) {
+        final ClassName testClass = ClassName.fromString(in.readUTF());
+        boolean unchanged = in.readUTF().equals(deepHash(code, testClass));
+
+        final int coveredCount = in.readInt();
+        final List<ClassName> covered = new ArrayList<>(coveredCount);
+        for (int j = 0; j != coveredCount; j++) {
+          final ClassName each = ClassName.fromString(in.readUTF());
+          unchanged &= hash(code, each).equals(Optional.of(in.readLong()));
+          covered.add(each);
+        }
+
+        final List<CoverageResult> results = readResults(in, covered);
+        if (unchanged) {
+          reusable.put(testClass, results);
+        }
+      }
+      return reusable;
+    } catch (final IOException ex) {
+      LOG.fine("Could not read stored coverage: " + ex);
+      return Collections.emptyMap();
+    }
+  }
+
+  /**
+   * Stores the coverage of test classes.
+   *
+   * @param results
+   *          results of each test, keyed by the test class that was run
+   * @param code
+   *          code the results were gathered against
+   */
+  public void write(final Map<ClassName, List<CoverageResult>> results,
+      final CodeSource code) {
+    Path temp = null;
+    try {
+      final File directory = this.file.getAbsoluteFile().getParentFile();
+      directory.mkdirs();
+      temp = Files.createTempFile(directory.toPath(), this.file.getName(),
+          ".tmp");
+      try (DataOutputStream out = new DataOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(temp)))) {
+        out.writeInt(FORMAT_VERSION);
+        out.writeUTF(fingerprint(code));
+
+        final Map<ClassName, List<CoverageResult>> storable = new LinkedHashMap<>();
+        for (final Entry<ClassName, List<CoverageResult>> each : results
+            .entrySet()) {
+          if (FCollection.contains(each.getValue(), r -> !r.isGreenTest())) {
+            continue;
+          }
+          storable.put(each.getKey(), each.getValue());
+        }
+
+        out.writeInt(storable.size());
+        for (final Entry<ClassName, List<CoverageResult>> each : storable
+            .entrySet()) {
+          writeTestClass(out, each.getKey(), each.getValue(), code);
+        }
+      }
+      // a concurrent run reads either the previous coverage or this
+      Files.move(temp, this.file.toPath(), StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException ex) {
+      LOG.fine("Could not store coverage: " + ex);
+      deleteQuietly(temp);
+    }
+  }
+
+  private static void deleteQuietly(final Path temp) {
+    if (temp != null) {
+      try {
+        Files.deleteIfExists(temp);
+      } catch (final IOException ex) {
+        LOG.fine("Could not delete " + temp + ": " + ex);
+      }
+    }
+  }
+
+  private static void writeTestClass(final DataOutputStream out,
+      final ClassName testClass, final List<CoverageResult> results,
+      final CodeSource code) throws IOException {
+    final Map<ClassName, Integer> classes = new LinkedHashMap<>();
+    final Map<Location, Integer> methods = new LinkedHashMap<>();
+    for (final CoverageResult each : results) {
+      for (final BlockLocation block : each.getCoverage()) {
+        final Location method = block.getLocation();
+        classes.putIfAbsent(method.getClassName(), classes.size());
+        methods.putIfAbsent(method, methods.size());
+      }
+    }
+
+    out.writeUTF(testClass.asJavaName());
+    out.writeUTF(deepHash(code, testClass));
+
+    out.writeInt(classes.size());
+    for (final ClassName each : classes.keySet()) {
+      out.writeUTF(each.asJavaName());
+      // a class that can no longer be found is recorded with a hash that will
+      // never match, so its test class is run again next time
+      out.writeLong(hash(code, each).orElse(0L));
+    }
+
+    out.writeInt(methods.size());
+    for (final Location each : methods.keySet()) {
+      out.writeInt(classes.get(each.getClassName()));
+      out.writeUTF(each.getMethodName().name());
+      out.writeUTF(each.getMethodDesc());
+    }
+
+    out.writeInt(results.size());
+    for (final CoverageResult each : results) {
+      final Description d = each.getTestUnitDescription();
+      out.writeBoolean(d.getFirstTestClass() != null);
+      if (d.getFirstTestClass() != null) {
+        out.writeUTF(d.getFirstTestClass());
+      }
+      out.writeUTF(d.getName());
+      out.writeInt(each.getExecutionTime());
+      out.writeInt(each.getCoverage().size());
+      for (final BlockLocation block : each.getCoverage()) {
+        out.writeInt(methods.get(block.getLocation()));
+        out.writeInt(block.getBlock());
+        out.writeInt(block.getFirstInsnInBlock());
+        out.writeInt(block.getLastInsnInBlock());
+      }
+    }
+  }
+
+  private static List<CoverageResult> readResults(final DataInputStream in,
+      final List<ClassName> classes) throws IOException {
+    final int methodCount = in.readInt();
+    final Location[] methods = new Location[methodCount];
+    for (int i = 0; i != methodCount; i++) {
+      methods[i] = Location.location(classes.get(in.readInt()),
+          MethodName.fromString(in.readUTF()), in.readUTF());
+    }
+
+    final int testCount = in.readInt();
+    final List<CoverageResult> results = new ArrayList<>(testCount);
+    for (int i = 0; i != testCount; i++) {
+      final String testClass = in.readBoolean() ? in.readUTF() : null;
+      final Description d = new Description(in.readUTF(), testClass);
+      final int executionTime = in.readInt();
+      final int blockCount = in.readInt();
+      final List<BlockLocation> blocks = new ArrayList<>(blockCount);
+      for (int j = 0; j != blockCount; j++) {
+        blocks.add(new BlockLocation(methods[in.readInt()], in.readInt(),
+            in.readInt(), in.readInt()));
+      }
+      results.add(new CoverageResult(d, executionTime, true, blocks));
+    }
+    return results;
+  }
+
+  private static String deepHash(final CodeSource code, final ClassName clazz) {
+    return code.fetchClass(clazz).map(c -> c.getDeepHash().toString(16))
+        .orElse("");
+  }
+
+  private static Optional<Long> hash(final CodeSource code,
+      final ClassName clazz) {
+    return code.fetchClass(clazz).map(c -> c.getId().getHash());
+  }
+
+  /**
+   * Combined hash of the classes in the test roots that are not tests, and
+   * checksum of the options, the names of the code and test classes and the
+   * archives on the classpath
+   */
+  private String fingerprint(final CodeSource code) {
+    final Set<ClassName> tests = new HashSet<>(FCollection.map(
+        code.getTests(), ClassInfo.toClassName()));
+    BigInteger hash = BigInteger.ZERO;
+    for (final ClassInfo each : code.getClassInfo(code.getProjectPaths()
+        .test())) {
+      if (!tests.contains(each.getName())) {
+        hash = hash.add(each.getHash());
+      }
+    }
+
+    final CRC32 crc = new CRC32();
+    update(crc, this.configuration);
+    update(crc, new TreeSet<>(code.getCodeUnderTestNames()).toString());
+    update(crc, new TreeSet<>(tests).toString());
+    for (final String each : code.getClassPath().getLocalClassPath()
+        .split(File.pathSeparator)) {
+      final File entry = new File(each);
+      update(crc, entry.getAbsolutePath());
+      // classes in the project's directories are hashed individually
+      if (entry.isFile()) {
+        update(crc, entry.length() + ":" + entry.lastModified());
+      }
+    }
+    return hash.toString(16) + ":" + Long.toHexString(crc.getValue());
+  }
+
+  private static String describe(final CoverageOptions coverageOptions,
+      final LaunchOptions launchOptions) {
+    final TestPluginArguments tests = coverageOptions.getPitConfig();
+    return Arrays.asList(coverageOptions.getIncludedClasses(),
+        coverageOptions.getExcludedClasses(),
+        coverageOptions.getDependencyAnalysisMaxDistance(),
+        tests.getTestPlugin(), tests.getGroupConfig(),
+        tests.getExcludedRunners(), tests.getIncludedTestMethods(),
+        tests.skipFailingTests(), launchOptions.getJavaExecutable(),
+        launchOptions.getChildJVMArgs(),
+        new TreeMap<>(launchOptions.getEnvironmentVariables())).toString();
+  }
+
+  private static void update(final CRC32 crc, final String value) {
+    crc.update(value.getBytes(StandardCharsets.UTF_8));
+    crc.update(0);
+  }
+
+}
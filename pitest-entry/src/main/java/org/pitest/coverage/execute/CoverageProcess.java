@@ -39,4 +39,8 @@ public class CoverageProcess {
 
   }
 
+  public void destroy() {
+    this.process.destroy();
+  }
+
 }
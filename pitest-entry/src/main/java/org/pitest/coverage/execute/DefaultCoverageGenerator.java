@@ -18,14 +18,22 @@ package org.pitest.coverage.execute;
 import java.io.File;
 import java.io.IOException;
 import java.net.ServerSocket;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.function.Function;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.CodeSource;
 import org.pitest.coverage.CoverageData;
 import org.pitest.coverage.CoverageExporter;
@@ -59,11 +67,32 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
   private final File             workingDir;
   private final CoverageExporter exporter;
   private final boolean          showProgress;
+  private final int              numberOfThreads;
+  private final Optional<CoverageCache> cache;
 
   public DefaultCoverageGenerator(final File workingDir,
       final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
       final CodeSource code, final CoverageExporter exporter,
       final Timings timings, final boolean showProgress) {
+    this(workingDir, coverageOptions, launchOptions, code, exporter, timings,
+        showProgress, 1);
+  }
+
+  public DefaultCoverageGenerator(final File workingDir,
+      final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
+      final CodeSource code, final CoverageExporter exporter,
+      final Timings timings, final boolean showProgress,
+      final int numberOfThreads) {
+    this(workingDir, coverageOptions, launchOptions, code, exporter, timings,
+        showProgress, numberOfThreads, Optional.empty());
+  }
+
+  public DefaultCoverageGenerator(final File workingDir,
+      final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
+      final CodeSource code, final CoverageExporter exporter,
+      final Timings timings, final boolean showProgress,
+      final int numberOfThreads, final Optional<CoverageCache> cache) {
+    this.cache = cache;
     this.coverageOptions = coverageOptions;
     this.code = code;
     this.launchOptions = launchOptions;
@@ -71,6 +100,7 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     this.workingDir = workingDir;
     this.exporter = exporter;
     this.showProgress = showProgress;
+    this.numberOfThreads = Math.max(1, numberOfThreads);
   }
 
   @Override
@@ -86,7 +116,11 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
           this.code));
 
       this.timings.registerStart(Timings.Stage.COVERAGE);
-      gatherCoverageData(tests, coverage);
+      if (this.cache.isPresent()) {
+        gatherCoverageReusingStoredResults(tests, coverage, this.cache.get());
+      } else {
+        gatherCoverageData(tests, resultProcessor(coverage));
+      }
       this.timings.registerEnd(Timings.Stage.COVERAGE);
 
       final long time = (System.currentTimeMillis() - t0) / 1000;
@@ -95,7 +129,7 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
 
       verifyBuildSuitableForMutationTesting(coverage);
 
-      this.exporter.recordCoverage(coverage.createCoverage());
+      this.exporter.recordCoverage(coverage);
 
       return coverage;
 
@@ -115,28 +149,122 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     }
   }
 
-  private void gatherCoverageData(final Collection<ClassInfo> tests,
-      final CoverageData coverage) throws IOException, InterruptedException,
+  private void gatherCoverageReusingStoredResults(
+      final Collection<ClassInfo> tests, final CoverageData coverage,
+      final CoverageCache cache) throws IOException, InterruptedException,
       ExecutionException {
+    final Map<ClassName, List<CoverageResult>> stored = cache.read(this.code);
+
+    final Map<ClassName, List<CoverageResult>> results = new LinkedHashMap<>();
+    final List<ClassInfo> toRun = new ArrayList<>();
+    for (final ClassInfo each : tests) {
+      final List<CoverageResult> reused = stored.get(each.getName());
+      if (reused != null) {
+        for (final CoverageResult cr : reused) {
+          coverage.calculateClassCoverage(cr);
+          this.exporter.recordTest(cr);
+        }
+        results.put(each.getName(), reused);
+      } else {
+        toRun.add(each);
+        results.put(each.getName(), new ArrayList<>());
+      }
+    }
+
+    LOG.info("Reusing stored coverage for " + (tests.size() - toRun.size())
+        + " of " + tests.size() + " test classes");
+
+    final SideEffect1<CoverageResult> processor = resultProcessor(coverage);
+    final Set<ClassName> unknownTestClasses = new HashSet<>();
+    final SideEffect1<CoverageResult> handler = cr -> {
+      processor.apply(cr);
+      synchronized (results) {
+        final String testClass = cr.getTestUnitDescription().getFirstTestClass();
+        final List<CoverageResult> forClass = testClass == null ? null
+            : results.get(ClassName.fromString(testClass));
+        if (forClass != null) {
+          forClass.add(cr);
+        } else {
+          unknownTestClasses.add(testClass == null ? null
+              : ClassName.fromString(testClass));
+        }
+      }
+    };
+
+    if (!toRun.isEmpty() || stored.isEmpty()) {
+      gatherCoverageData(toRun, handler);
+    }
+
+    // results that cannot be attributed to the class that was run could not
+    // be reused correctly
+    if (unknownTestClasses.isEmpty()) {
+      cache.write(results, this.code);
+    } else {
+      LOG.fine("Not storing coverage as tests reported for unexpected classes "
+          + unknownTestClasses);
+      cache.write(Collections.emptyMap(), this.code);
+    }
+  }
+
+  private void gatherCoverageData(final Collection<ClassInfo> tests,
+      final SideEffect1<CoverageResult> handler) throws IOException,
+      InterruptedException, ExecutionException {
 
     final List<String> filteredTests = FCollection
         .map(tests, classInfoToName());
 
-    final SideEffect1<CoverageResult> handler = resultProcessor(coverage);
+    final List<CoverageProcess> processes = new ArrayList<>();
+    try {
+      for (final List<String> shard : shard(filteredTests)) {
+        final CoverageProcess process = createProcess(shard, handler);
+        process.start();
+        processes.add(process);
+      }
+
+      for (final CoverageProcess each : processes) {
+        checkExitCode(each.waitToDie());
+      }
+    } finally {
+      for (final CoverageProcess each : processes) {
+        each.destroy();
+      }
+    }
+  }
 
+  private CoverageProcess createProcess(final List<String> tests,
+      final SideEffect1<CoverageResult> handler) throws IOException {
     final SocketFinder sf = new SocketFinder();
     final ServerSocket socket = sf.getNextAvailableServerSocket();
 
-    final CoverageProcess process = new CoverageProcess(ProcessArgs
+    return new CoverageProcess(ProcessArgs
         .withClassPath(this.code.getClassPath()).andBaseDir(this.workingDir)
         .andLaunchOptions(this.launchOptions).andStderr(logInfo())
         .andStdout(captureStandardOutIfVerbose()), this.coverageOptions,
-        socket, filteredTests, handler);
-
-    process.start();
+        socket, tests, handler);
+  }
 
-    final ExitCode exitCode = process.waitToDie();
+  /**
+   * Deals the (sorted) test classes out across one list per minion, so that
+   * each minion receives a similar mix of tests.
+   */
+  private List<List<String>> shard(final List<String> tests) {
+    final int minions = Math.max(1,
+        Math.min(this.numberOfThreads, tests.size()));
+    final List<List<String>> shards = new ArrayList<>(minions);
+    for (int i = 0; i != minions; i++) {
+      shards.add(new ArrayList<>());
+    }
+    for (int i = 0; i != tests.size(); i++) {
+      shards.get(i % minions).add(tests.get(i));
+    }
+    if (minions > 1) {
+      LOG.fine("Sharding " + tests.size() + " test classes across " + minions
+          + " coverage minions");
+    }
+    return shards;
+  }
 
+  private static void checkExitCode(final ExitCode exitCode) {
     if (exitCode == ExitCode.JUNIT_ISSUE) {
       LOG.severe("Error generating coverage. Please check that your classpath contains JUnit 4.6+ or PIT test plugin for other test tool is enabled.");
       throw new PitError(
@@ -178,9 +306,10 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
       int i = 0;
 
       @Override
-      public void apply(final CoverageResult cr) {
+      public synchronized void apply(final CoverageResult cr) {
         if (cr.isGreenTest() || !coverageOptions.getPitConfig().skipFailingTests()) {
           coverage.calculateClassCoverage(cr);
+          DefaultCoverageGenerator.this.exporter.recordTest(cr);
         }
         if (DefaultCoverageGenerator.this.showProgress) {
           System.out.printf("%s", this.spinner[this.i % this.spinner.length]);
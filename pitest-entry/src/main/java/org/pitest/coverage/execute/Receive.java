@@ -1,7 +1,10 @@
 package org.pitest.coverage.execute;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
@@ -14,15 +17,16 @@ import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MethodName;
 import org.pitest.testapi.Description;
 import org.pitest.util.Id;
+import org.pitest.util.PitError;
 import org.pitest.util.ReceiveStrategy;
 import org.pitest.util.SafeDataInputStream;
 
-import sun.pitest.CodeCoverageStore;
-
 final class Receive implements ReceiveStrategy {
 
-  private final Map<Integer, ClassName>     classIdToName = new ConcurrentHashMap<>();
-  private final Map<Long, BlockLocation>    probeToBlock  = new ConcurrentHashMap<>();
+  private final Map<Integer, ClassName>       classIdToName = new ConcurrentHashMap<>();
+  // blocks of each class, indexed by class wide probe id
+  private final Map<Integer, BlockLocation[]> probeToBlock  = new ConcurrentHashMap<>();
+  private final List<Description>             tests         = new ArrayList<>();
 
   private final SideEffect1<CoverageResult> handler;
 
@@ -33,6 +37,9 @@ final class Receive implements ReceiveStrategy {
   @Override
   public void apply(final byte control, final SafeDataInputStream is) {
     switch (control) {
+    case Id.FORMAT:
+      checkFormat(is.readInt());
+      break;
     case Id.CLAZZ:
       final int id = is.readInt();
       final String name = is.readString();
@@ -49,6 +56,13 @@ final class Receive implements ReceiveStrategy {
     }
   }
 
+  private static void checkFormat(final int version) {
+    if (version != CoveragePipe.FORMAT_VERSION) {
+      throw new PitError("Coverage minion sent coverage in format " + version
+          + " but format " + CoveragePipe.FORMAT_VERSION + " was expected");
+    }
+  }
+
   private void handleProbes(final SafeDataInputStream is) {
     final int classId = is.readInt();
     final String methodName = is.readString();
@@ -57,36 +71,61 @@ final class Receive implements ReceiveStrategy {
     final int last = is.readInt();
     final Location loc = Location.location(this.classIdToName.get(classId),
         MethodName.fromString(methodName), methodSig);
+    final BlockLocation[] blocks = blocksFor(classId, last);
     for (int i = first; i != (last + 1); i++) {
       // nb, convert from classwide id to method scoped index within
       // BlockLocation
-      this.probeToBlock.put(CodeCoverageStore.encode(classId, i),
-          new BlockLocation(loc, i - first, is.readInt(), is.readInt()));
+      blocks[i] = new BlockLocation(loc, i - first, is.readInt(), is.readInt());
     }
   }
 
+  private BlockLocation[] blocksFor(final int classId, final int lastProbe) {
+    final BlockLocation[] existing = this.probeToBlock.get(classId);
+    if ((existing != null) && (existing.length > lastProbe)) {
+      return existing;
+    }
+    final BlockLocation[] blocks = existing == null ? new BlockLocation[lastProbe + 1]
+        : Arrays.copyOf(existing, lastProbe + 1);
+    this.probeToBlock.put(classId, blocks);
+    return blocks;
+  }
+
   private void handleTestEnd(final SafeDataInputStream is) {
-    final Description d = is.read(Description.class);
-    final int numberOfResults = is.readInt();
+    final Description d = readDescription(is);
+    final int numberOfClasses = is.readVarInt();
 
-    final Set<BlockLocation> hits = new HashSet<>(numberOfResults);
+    final Set<BlockLocation> hits = new HashSet<>();
 
-    for (int i = 0; i != numberOfResults; i++) {
-      readProbeHit(is, hits);
+    for (int i = 0; i != numberOfClasses; i++) {
+      readClassHits(is, hits);
     }
 
     this.handler.apply(createCoverageResult(is, d, hits));
   }
 
-  private void readProbeHit(final SafeDataInputStream is,
-      final Set<BlockLocation> hits) {
-    final long encoded = is.readLong();
-    final BlockLocation location = probeToBlock(encoded);
-    hits.add(location);
+  private Description readDescription(final SafeDataInputStream is) {
+    final int id = is.readVarInt();
+    if (id < this.tests.size()) {
+      return this.tests.get(id);
+    }
+
+    final String testClass = is.readBoolean() ? is.readString() : null;
+    final Description d = new Description(is.readString(), testClass);
+    this.tests.add(d);
+    return d;
   }
 
-  private BlockLocation probeToBlock(long encoded) {
-    return this.probeToBlock.get(encoded);
+  private void readClassHits(final SafeDataInputStream is,
+      final Set<BlockLocation> hits) {
+    final BlockLocation[] blocks = this.probeToBlock.get(is.readVarInt());
+    final int numberOfProbes = is.readVarInt();
+    int probe = 0;
+    for (int i = 0; i != numberOfProbes; i++) {
+      probe += is.readVarInt();
+      if ((blocks != null) && (probe < blocks.length)) {
+        hits.add(blocks[probe]);
+      }
+    }
   }
 
   private CoverageResult createCoverageResult(final SafeDataInputStream is,
@@ -0,0 +1,170 @@
+package org.pitest.coverage.export;
+
+import java.io.OutputStream;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageData;
+import org.pitest.coverage.CoverageExporter;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.util.Log;
+import org.pitest.util.ResultOutputStrategy;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * Exports coverage in a compact binary format, writing the coverage of each
+ * test as soon as it is known rather than first building the coverage of
+ * every block in memory.
+ *
+ * The file holds a record for each test naming the blocks it visited. Tests,
+ * classes, methods and blocks are each described only the first time they
+ * appear, and are afterwards referred to by index. Files are read back by
+ * {@link BinaryCoverageReader}.
+ *
+ * Output strategies unable to write binary files are given the xml export
+ * instead.
+ */
+public class BinaryCoverageExporter implements CoverageExporter {
+
+  private static final Logger               LOG            = Log.getLogger();
+
+  public static final String                FILE_NAME      = "linecoverage.bin";
+
+  static final int                          MAGIC          = 0x50495443;
+  static final int                          FORMAT_VERSION = 1;
+
+  static final byte                         END            = 0;
+  static final byte                         TEST           = 1;
+
+  private final ResultOutputStrategy        outputStrategy;
+
+  private final Map<String, Integer>        tests          = new HashMap<>();
+  private final Map<ClassName, Integer>     classes        = new HashMap<>();
+  private final Map<Location, Integer>      methods        = new HashMap<>();
+  private final Map<BlockLocation, Integer> blocks         = new HashMap<>();
+
+  private SafeDataOutputStream              out;
+  private CoverageExporter                  fallback;
+
+  public BinaryCoverageExporter(final ResultOutputStrategy outputStrategy) {
+    this.outputStrategy = outputStrategy;
+  }
+
+  @Override
+  public void recordTest(final CoverageResult result) {
+    if (openOutput()) {
+      writeTest(result.getTestUnitDescription().getQualifiedName(),
+          result.getCoverage());
+    }
+  }
+
+  @Override
+  public void recordCoverage(final CoverageData coverage) {
+    if (!openOutput()) {
+      this.fallback.recordCoverage(coverage);
+      return;
+    }
+    // everything has already been written as each test was recorded
+    finish();
+  }
+
+  @Override
+  public void recordCoverage(final Collection<BlockCoverage> coverage) {
+    if (!openOutput()) {
+      this.fallback.recordCoverage(coverage);
+      return;
+    }
+    for (final BlockCoverage each : coverage) {
+      for (final String test : each.getTests()) {
+        writeTest(test, Collections.singletonList(each.getBlock()));
+      }
+    }
+    finish();
+  }
+
+  private void writeTest(final String name,
+      final Collection<BlockLocation> visited) {
+    final SafeDataOutputStream out = this.out;
+    out.writeByte(TEST);
+    if (intern(this.tests, name, out)) {
+      out.writeString(name);
+    }
+    out.writeVarInt(visited.size());
+    for (final BlockLocation each : visited) {
+      writeBlock(each, out);
+    }
+  }
+
+  private void writeBlock(final BlockLocation block,
+      final SafeDataOutputStream out) {
+    if (!intern(this.blocks, block, out)) {
+      return;
+    }
+    final Location method = block.getLocation();
+    if (intern(this.methods, method, out)) {
+      if (intern(this.classes, method.getClassName(), out)) {
+        out.writeString(method.getClassName().asJavaName());
+      }
+      out.writeString(method.getMethodName().name());
+      out.writeString(method.getMethodDesc());
+    }
+    out.writeVarInt(block.getBlock());
+    out.writeVarInt(block.getFirstInsnInBlock());
+    out.writeVarInt(block.getLastInsnInBlock());
+  }
+
+  /**
+   * Writes the index of the value, returning true if this is its first use
+   * and so it must be described.
+   */
+  private static <T> boolean intern(final Map<T, Integer> table,
+      final T value, final SafeDataOutputStream out) {
+    final Integer known = table.get(value);
+    if (known != null) {
+      out.writeVarInt(known);
+      return false;
+    }
+    final int index = table.size();
+    table.put(value, index);
+    out.writeVarInt(index);
+    return true;
+  }
+
+  /**
+   * Opens the binary file on first use, returning false if the output
+   * strategy cannot write one and the xml export is used instead.
+   */
+  private boolean openOutput() {
+    if ((this.out == null) && (this.fallback == null)) {
+      final Optional<OutputStream> stream = this.outputStrategy
+          .createOutputStreamForFile(FILE_NAME);
+      if (stream.isPresent()) {
+        this.out = new SafeDataOutputStream(stream.get());
+        this.out.writeInt(MAGIC);
+        this.out.writeInt(FORMAT_VERSION);
+      } else {
+        LOG.warning("Binary line coverage cannot be written by "
+            + this.outputStrategy.getClass().getName()
+            + ", so xml line coverage is exported instead");
+        this.fallback = new DefaultCoverageExporter(this.outputStrategy);
+      }
+    }
+    return this.out != null;
+  }
+
+  // the output strategy publishes the file under its name when the stream is
+  // closed, so a run that ends early leaves no truncated file
+  private void finish() {
+    this.out.writeByte(END);
+    this.out.close();
+  }
+
+}
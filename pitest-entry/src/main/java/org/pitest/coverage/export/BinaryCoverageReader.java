@@ -0,0 +1,113 @@
+package org.pitest.coverage.export;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeSet;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.util.PitError;
+import org.pitest.util.SafeDataInputStream;
+
+/**
+ * Reads coverage written by {@link BinaryCoverageExporter}.
+ */
+public final class BinaryCoverageReader {
+
+  private final SafeDataInputStream                 in;
+
+  private final List<String>                        tests    = new ArrayList<>();
+  private final List<ClassName>                     classes  = new ArrayList<>();
+  private final List<Location>                      methods  = new ArrayList<>();
+  private final List<BlockLocation>                 blocks   = new ArrayList<>();
+  private final Map<BlockLocation, TreeSet<String>> coverage = new LinkedHashMap<>();
+
+  private BinaryCoverageReader(final InputStream in) {
+    this.in = new SafeDataInputStream(in);
+  }
+
+  /**
+   * Reads the coverage of each block, with the names of the tests that
+   * visited it in order.
+   *
+   * @param in
+   *          stream to read, which is not closed
+   * @return coverage of each block
+   */
+  public static Collection<BlockCoverage> read(final InputStream in) {
+    return new BinaryCoverageReader(in).read();
+  }
+
+  private Collection<BlockCoverage> read() {
+    if (this.in.readInt() != BinaryCoverageExporter.MAGIC) {
+      throw new PitError("Not a binary coverage file");
+    }
+    final int version = this.in.readInt();
+    if (version != BinaryCoverageExporter.FORMAT_VERSION) {
+      throw new PitError("Unsupported binary coverage format version "
+          + version);
+    }
+
+    byte record;
+    while ((record = this.in.readByte()) != BinaryCoverageExporter.END) {
+      if (record != BinaryCoverageExporter.TEST) {
+        throw new PitError("Unexpected record " + record
+            + " in binary coverage file");
+      }
+      readTest();
+    }
+
+    final List<BlockCoverage> result = new ArrayList<>(this.coverage.size());
+    for (final Entry<BlockLocation, TreeSet<String>> each : this.coverage
+        .entrySet()) {
+      result.add(new BlockCoverage(each.getKey(), new ArrayList<>(each
+          .getValue())));
+    }
+    return result;
+  }
+
+  private void readTest() {
+    final int testIndex = this.in.readVarInt();
+    if (testIndex == this.tests.size()) {
+      this.tests.add(this.in.readString());
+    }
+    final String test = this.tests.get(testIndex);
+
+    final int count = this.in.readVarInt();
+    for (int i = 0; i != count; i++) {
+      this.coverage.computeIfAbsent(readBlock(), k -> new TreeSet<>()).add(
+          test);
+    }
+  }
+
+  private BlockLocation readBlock() {
+    final int blockIndex = this.in.readVarInt();
+    if (blockIndex != this.blocks.size()) {
+      return this.blocks.get(blockIndex);
+    }
+
+    final int methodIndex = this.in.readVarInt();
+    if (methodIndex == this.methods.size()) {
+      final int classIndex = this.in.readVarInt();
+      if (classIndex == this.classes.size()) {
+        this.classes.add(ClassName.fromString(this.in.readString()));
+      }
+      this.methods.add(Location.location(this.classes.get(classIndex),
+          MethodName.fromString(this.in.readString()), this.in.readString()));
+    }
+
+    final BlockLocation block = new BlockLocation(this.methods.get(methodIndex),
+        this.in.readVarInt(), this.in.readVarInt(), this.in.readVarInt());
+    this.blocks.add(block);
+    return block;
+  }
+
+}
@@ -0,0 +1,34 @@
+package org.pitest.mutationtest.build;
+
+import java.util.Collection;
+
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Rough estimate of the time needed to analyse mutations, based on the
+ * execution times of the tests recorded during coverage. Every mutation costs
+ * at least one, so that mutations without timed tests are still counted.
+ */
+final class CostEstimate {
+
+  private CostEstimate() {
+  }
+
+  static long of(final MutationDetails mutation) {
+    long cost = 0;
+    for (final TestInfo each : mutation.getTestsInOrder()) {
+      cost += each.getTime();
+    }
+    return Math.max(1, cost);
+  }
+
+  static long of(final Collection<MutationDetails> mutations) {
+    long cost = 0;
+    for (final MutationDetails each : mutations) {
+      cost += of(each);
+    }
+    return cost;
+  }
+
+}
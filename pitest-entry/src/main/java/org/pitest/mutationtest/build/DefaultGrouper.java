@@ -10,12 +10,26 @@ import org.pitest.classinfo.ClassName;
 import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.engine.MutationDetails;
 
+/**
+ * Groups mutations by class, splitting classes into units of at most unitSize
+ * mutations when a unit size is given.
+ *
+ * When running with more than one thread, a class whose estimated cost is
+ * greater than an even share of the total work is also split, so that a single
+ * large class cannot leave the other threads idle at the end of a run.
+ */
 public class DefaultGrouper implements MutationGrouper {
 
   private final int unitSize;
+  private final int numberOfThreads;
 
   public DefaultGrouper(final int unitSize) {
+    this(unitSize, 1);
+  }
+
+  public DefaultGrouper(final int unitSize, final int numberOfThreads) {
     this.unitSize = unitSize;
+    this.numberOfThreads = numberOfThreads;
   }
 
   @Override
@@ -29,7 +43,35 @@ public class DefaultGrouper implements MutationGrouper {
       shrinkToMaximumUnitSize(chunked, each);
     }
 
-    return chunked;
+    return shrinkToMaximumCost(chunked, maximumUnitCost(mutations));
+  }
+
+  private long maximumUnitCost(final Collection<MutationDetails> mutations) {
+    if (this.numberOfThreads <= 1) {
+      return Long.MAX_VALUE;
+    }
+    return Math.max(1, CostEstimate.of(mutations) / this.numberOfThreads);
+  }
+
+  private static List<List<MutationDetails>> shrinkToMaximumCost(
+      final List<List<MutationDetails>> units, final long maxCost) {
+    final List<List<MutationDetails>> split = new ArrayList<>();
+    for (final List<MutationDetails> unit : units) {
+      List<MutationDetails> current = new ArrayList<>();
+      long cost = 0;
+      for (final MutationDetails each : unit) {
+        final long mutationCost = CostEstimate.of(each);
+        if (!current.isEmpty() && ((cost + mutationCost) > maxCost)) {
+          split.add(current);
+          current = new ArrayList<>();
+          cost = 0;
+        }
+        current.add(each);
+        cost += mutationCost;
+      }
+      split.add(current);
+    }
+    return split;
   }
 
   private void shrinkToMaximumUnitSize(
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2019 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.build;
+
+import java.util.Collection;
+import java.util.Optional;
+
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.CachingByteArraySource;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.MutationConfig;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Finds the mutations the engine creates for a class and passes them through
+ * the interceptors. Interceptors hold state between begin and end, so an
+ * instance must not be used by more than one thread at a time.
+ */
+public class InterceptingMutationFinder implements MutationFinder {
+
+  private final MutationConfig       mutationConfig;
+  private final ClassByteArraySource source;
+  private final MutationInterceptor  interceptor;
+  private final Optional<MutantCache> mutants;
+
+  public InterceptingMutationFinder(final MutationConfig mutationConfig,
+      final ClassByteArraySource source,
+      final MutationInterceptor interceptor,
+      final Optional<MutantCache> mutants) {
+    this.mutationConfig = mutationConfig;
+    this.source = new CachingByteArraySource(source, 200);
+    this.interceptor = interceptor;
+    this.mutants = mutants;
+  }
+
+  @Override
+  public Collection<MutationDetails> findMutations(final ClassName clazz) {
+
+    // interceptors share the cache, so each mutant is generated at most once
+    final Mutater created = this.mutationConfig.createMutator(this.source);
+    final Mutater m = this.mutants.isPresent() ? this.mutants.get()
+        .wrap(created) : created;
+
+    final Collection<MutationDetails> availableMutations = m
+        .findMutations(clazz);
+
+    if (availableMutations.isEmpty()) {
+      return availableMutations;
+    } else {
+      final ClassTree tree = ClassTree
+          .fromBytes(this.source.getBytes(clazz.asJavaName()).get());
+
+      this.interceptor.begin(tree);
+      final Collection<MutationDetails> updatedMutations = this.interceptor
+          .intercept(availableMutations, m);
+      this.interceptor.end();
+
+      return updatedMutations;
+    }
+  }
+
+}
@@ -0,0 +1,147 @@
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * Holds generated mutant bytecode so that each mutant is generated only once
+ * by the main process, whether it is first needed by an interceptor or when
+ * it is sent to a minion.
+ *
+ * The cache is bounded by the total size of the bytecode it holds, the least
+ * recently used mutants being discarded first. Mutants that have been
+ * discarded are regenerated on demand.
+ */
+public class MutantCache {
+
+  public static final long                       DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+
+  private final ThreadLocal<Mutater>             generators;
+  private final long                             maxBytes;
+  private final Map<MutationIdentifier, Mutant>  cache = new LinkedHashMap<>(16, 0.75f, true);
+  private long                                   cachedBytes;
+
+  public MutantCache(final Supplier<Mutater> mutaterFactory) {
+    this(mutaterFactory, DEFAULT_MAX_BYTES);
+  }
+
+  public MutantCache(final Supplier<Mutater> mutaterFactory,
+      final long maxBytes) {
+    // mutaters are not thread safe, but workers are created concurrently
+    this.generators = ThreadLocal.withInitial(mutaterFactory);
+    this.maxBytes = maxBytes;
+  }
+
+  /**
+   * Wraps a mutater so that mutants it creates are stored in, and read from,
+   * this cache.
+   *
+   * @param child
+   *          mutater to generate mutants not yet held
+   * @return a caching mutater
+   */
+  public Mutater wrap(final Mutater child) {
+    return new CachingMutater(child);
+  }
+
+  /**
+   * Returns the bytecode for each of the given mutations, generating any not
+   * already held.
+   *
+   * @param mutations
+   *          mutations to return bytecode for
+   * @return map of mutation id to mutant bytecode
+   */
+  public Map<MutationIdentifier, byte[]> getBytes(
+      final Collection<MutationDetails> mutations) {
+    final Map<MutationIdentifier, byte[]> bytes = new HashMap<>();
+    final List<MutationIdentifier> missing = new ArrayList<>();
+    for (final MutationDetails each : mutations) {
+      final Mutant cached = lookup(each.getId());
+      if (cached != null) {
+        bytes.put(each.getId(), cached.getBytes());
+      } else {
+        missing.add(each.getId());
+      }
+    }
+
+    if (!missing.isEmpty()) {
+      // mutations within a unit are usually from one class, so are
+      // generated together
+      for (final Mutant each : this.generators.get().getMutations(missing)) {
+        store(each.getDetails().getId(), each);
+        bytes.put(each.getDetails().getId(), each.getBytes());
+      }
+    }
+    return bytes;
+  }
+
+  synchronized int size() {
+    return this.cache.size();
+  }
+
+  private Mutant getMutation(final Mutater child, final MutationIdentifier id) {
+    final Mutant cached = lookup(id);
+    if (cached != null) {
+      return cached;
+    }
+    final Mutant mutant = child.getMutation(id);
+    store(id, mutant);
+    return mutant;
+  }
+
+  private synchronized Mutant lookup(final MutationIdentifier id) {
+    return this.cache.get(id);
+  }
+
+  private synchronized void store(final MutationIdentifier id,
+      final Mutant mutant) {
+    if (mutant.getBytes().length > this.maxBytes) {
+      return;
+    }
+    final Mutant previous = this.cache.put(id, mutant);
+    if (previous != null) {
+      this.cachedBytes -= previous.getBytes().length;
+    }
+    this.cachedBytes += mutant.getBytes().length;
+
+    final Iterator<Mutant> eldest = this.cache.values().iterator();
+    while (this.cachedBytes > this.maxBytes) {
+      this.cachedBytes -= eldest.next().getBytes().length;
+      eldest.remove();
+    }
+  }
+
+  private class CachingMutater implements Mutater {
+
+    private final Mutater child;
+
+    CachingMutater(final Mutater child) {
+      this.child = child;
+    }
+
+    @Override
+    public Mutant getMutation(final MutationIdentifier id) {
+      return MutantCache.this.getMutation(this.child, id);
+    }
+
+    @Override
+    public List<MutationDetails> findMutations(final ClassName classToMutate) {
+      return this.child.findMutations(classToMutate);
+    }
+
+  }
+
+}
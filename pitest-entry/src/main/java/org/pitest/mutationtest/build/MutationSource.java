@@ -16,59 +16,56 @@ package org.pitest.mutationtest.build;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.logging.Logger;
 
-import org.pitest.bytecode.analysis.ClassTree;
-import org.pitest.classinfo.CachingByteArraySource;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.TestInfo;
 import org.pitest.mutationtest.MutationConfig;
-import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.util.Log;
 
 public class MutationSource {
 
-  private static final Logger        LOG = Log.getLogger();
+  private static final Logger   LOG = Log.getLogger();
 
-  private final MutationConfig       mutationConfig;
-  private final TestPrioritiser      testPrioritiser;
-  private final ClassByteArraySource source;
-  private final MutationInterceptor interceptor;
+  private final MutationFinder  finder;
+  private final TestPrioritiser testPrioritiser;
 
   public MutationSource(final MutationConfig mutationConfig,
       final TestPrioritiser testPrioritiser,
       final ClassByteArraySource source,
       final MutationInterceptor interceptor) {
-    this.mutationConfig = mutationConfig;
-    this.testPrioritiser = testPrioritiser;
-    this.source = new CachingByteArraySource(source, 200);
-    this.interceptor = interceptor;
+    this(mutationConfig, testPrioritiser, source, interceptor,
+        Optional.<MutantCache> empty());
   }
 
-  public Collection<MutationDetails> createMutations(final ClassName clazz) {
+  /**
+   * @param mutants
+   *          if present, holds the mutants generated while finding mutations
+   *          so that they can be sent to minions
+   */
+  public MutationSource(final MutationConfig mutationConfig,
+      final TestPrioritiser testPrioritiser,
+      final ClassByteArraySource source,
+      final MutationInterceptor interceptor,
+      final Optional<MutantCache> mutants) {
+    this(new InterceptingMutationFinder(mutationConfig, source, interceptor,
+        mutants), testPrioritiser);
+  }
 
-    final Mutater m = this.mutationConfig.createMutator(this.source);
+  public MutationSource(final MutationFinder finder,
+      final TestPrioritiser testPrioritiser) {
+    this.finder = finder;
+    this.testPrioritiser = testPrioritiser;
+  }
 
-    final Collection<MutationDetails> availableMutations = m
+  public Collection<MutationDetails> createMutations(final ClassName clazz) {
+    final Collection<MutationDetails> mutations = this.finder
         .findMutations(clazz);
-
-    if (availableMutations.isEmpty()) {
-      return availableMutations;
-    } else {
-      final ClassTree tree = ClassTree
-          .fromBytes(this.source.getBytes(clazz.asJavaName()).get());
-
-      this.interceptor.begin(tree);
-      final Collection<MutationDetails> updatedMutations = this.interceptor
-          .intercept(availableMutations, m);
-      this.interceptor.end();
-
-      assignTestsToMutations(updatedMutations);
-
-      return updatedMutations;
-    }
+    assignTestsToMutations(mutations);
+    return mutations;
   }
 
   private void assignTestsToMutations(
@@ -57,9 +57,15 @@ public class MutationTestUnit implements MutationAnalysisUnit {
     return reportResults(mutations);
   }
 
+  /**
+   * Priority is the estimated cost of analysing the unit, i.e. the time taken
+   * by the tests covering each mutation. Known status units use
+   * Integer.MAX_VALUE, so the estimate is capped below that.
+   */
   @Override
   public int priority() {
-    return this.availableMutations.size();
+    return (int) Math.min(Integer.MAX_VALUE - 1,
+        CostEstimate.of(this.availableMutations));
   }
 
   private void runTestsInSeperateProcess(final MutationStatusMap mutations)
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2019 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.build;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.util.Unchecked;
+
+/**
+ * Finds the mutations of a set of classes on a background thread, so that
+ * they can be found while coverage is still being gathered. Finding and
+ * intercepting mutations needs no coverage, only assigning tests to them
+ * does.
+ *
+ * All calls to the child finder are made from the one background thread, so
+ * it need not be thread safe.
+ */
+public class PrefetchingMutationFinder implements MutationFinder {
+
+  private final MutationFinder                                    child;
+  private final ExecutorService                                   executor;
+  private final Map<ClassName, Future<Collection<MutationDetails>>> found = new LinkedHashMap<>();
+
+  public PrefetchingMutationFinder(final MutationFinder child) {
+    this.child = child;
+    this.executor = Executors.newSingleThreadExecutor(r -> {
+      final Thread t = new Thread(r, "pit-mutation-prefetch");
+      t.setDaemon(true);
+      return t;
+    });
+  }
+
+  /**
+   * Starts finding the mutations of the given classes, in order.
+   *
+   * @param classes
+   *          classes to find mutations for
+   */
+  public synchronized void prefetch(final Collection<ClassName> classes) {
+    for (final ClassName each : classes) {
+      this.found.computeIfAbsent(each, this::submit);
+    }
+  }
+
+  @Override
+  public Collection<MutationDetails> findMutations(final ClassName clazz) {
+    final Future<Collection<MutationDetails>> result;
+    synchronized (this) {
+      // claimed results are not held, so memory is released as units are built
+      final Future<Collection<MutationDetails>> prefetched = this.found
+          .remove(clazz);
+      result = prefetched != null ? prefetched : submit(clazz);
+    }
+    try {
+      return result.get();
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw Unchecked.translateCheckedException(ex);
+    } catch (final ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw Unchecked.translateCheckedException(ex.getCause());
+    }
+  }
+
+  /**
+   * Stops the background thread, abandoning any mutations not yet found.
+   */
+  public synchronized void shutdown() {
+    this.executor.shutdownNow();
+    this.found.clear();
+  }
+
+  private Future<Collection<MutationDetails>> submit(final ClassName clazz) {
+    return this.executor.submit(() -> this.child.findMutations(clazz));
+  }
+
+}
@@ -4,6 +4,9 @@ import static org.pitest.functional.prelude.Prelude.printWith;
 
 import java.io.File;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.functional.SideEffect1;
@@ -13,11 +16,16 @@ import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.mutationtest.execute.MinionArguments;
+import org.pitest.mutationtest.execute.MinionPool;
 import org.pitest.mutationtest.execute.MutationTestProcess;
+import org.pitest.mutationtest.execute.PooledMutationTestProcess;
+import org.pitest.mutationtest.execute.SingleUseMutationTestProcess;
 import org.pitest.process.ProcessArgs;
 import org.pitest.util.Log;
 import org.pitest.util.SocketFinder;
+import org.pitest.util.Timings;
 
 public class WorkerFactory {
 
@@ -29,6 +37,10 @@ public class WorkerFactory {
   private final boolean               fullMutationMatrix;
   private final MutationConfig        config;
   private final EngineArguments       args;
+  private final MinionPool            pool;
+  private final Optional<MutantCache> mutants;
+  private final boolean               recoverFromTimeouts;
+  private final Timings               timings;
 
   public WorkerFactory(final File baseDir,
       final TestPluginArguments pitConfig,
@@ -38,6 +50,69 @@ public class WorkerFactory {
       final boolean verbose,
       final boolean fullMutationMatrix,
       final String classPath) {
+    this(baseDir, pitConfig, mutationConfig, args, timeoutStrategy, verbose,
+        fullMutationMatrix, classPath, MinionPool.disabled());
+  }
+
+  public WorkerFactory(final File baseDir,
+      final TestPluginArguments pitConfig,
+      final MutationConfig mutationConfig,
+      final EngineArguments args,
+      final TimeoutLengthStrategy timeoutStrategy,
+      final boolean verbose,
+      final boolean fullMutationMatrix,
+      final String classPath,
+      final MinionPool pool) {
+    this(baseDir, pitConfig, mutationConfig, args, timeoutStrategy, verbose,
+        fullMutationMatrix, classPath, pool, Optional.empty());
+  }
+
+  public WorkerFactory(final File baseDir,
+      final TestPluginArguments pitConfig,
+      final MutationConfig mutationConfig,
+      final EngineArguments args,
+      final TimeoutLengthStrategy timeoutStrategy,
+      final boolean verbose,
+      final boolean fullMutationMatrix,
+      final String classPath,
+      final MinionPool pool,
+      final Optional<MutantCache> mutants) {
+    this(baseDir, pitConfig, mutationConfig, args, timeoutStrategy, verbose,
+        fullMutationMatrix, classPath, pool, mutants, false);
+  }
+
+  public WorkerFactory(final File baseDir,
+      final TestPluginArguments pitConfig,
+      final MutationConfig mutationConfig,
+      final EngineArguments args,
+      final TimeoutLengthStrategy timeoutStrategy,
+      final boolean verbose,
+      final boolean fullMutationMatrix,
+      final String classPath,
+      final MinionPool pool,
+      final Optional<MutantCache> mutants,
+      final boolean recoverFromTimeouts) {
+    this(baseDir, pitConfig, mutationConfig, args, timeoutStrategy, verbose,
+        fullMutationMatrix, classPath, pool, mutants, recoverFromTimeouts,
+        new Timings());
+  }
+
+  /**
+   * @param timings
+   *          to which the time minions spend redefining classes is added
+   */
+  public WorkerFactory(final File baseDir,
+      final TestPluginArguments pitConfig,
+      final MutationConfig mutationConfig,
+      final EngineArguments args,
+      final TimeoutLengthStrategy timeoutStrategy,
+      final boolean verbose,
+      final boolean fullMutationMatrix,
+      final String classPath,
+      final MinionPool pool,
+      final Optional<MutantCache> mutants,
+      final boolean recoverFromTimeouts,
+      final Timings timings) {
     this.pitConfig = pitConfig;
     this.timeoutStrategy = timeoutStrategy;
     this.verbose = verbose;
@@ -46,6 +121,10 @@ public class WorkerFactory {
     this.baseDir = baseDir;
     this.config = mutationConfig;
     this.args = args;
+    this.pool = pool;
+    this.mutants = mutants;
+    this.recoverFromTimeouts = recoverFromTimeouts;
+    this.timings = timings;
   }
 
   public MutationTestProcess createWorker(
@@ -53,19 +132,31 @@ public class WorkerFactory {
       final Collection<ClassName> testClasses) {
     final MinionArguments fileArgs = new MinionArguments(remainingMutations,
         testClasses, this.config.getEngine().getName(), this.args, this.timeoutStrategy,
-        Log.isVerbose(), this.fullMutationMatrix, this.pitConfig);
+        Log.isVerbose(), this.fullMutationMatrix, this.pitConfig,
+        generateMutants(remainingMutations), this.recoverFromTimeouts);
 
     final ProcessArgs args = ProcessArgs.withClassPath(this.classPath)
         .andLaunchOptions(this.config.getLaunchOptions())
         .andBaseDir(this.baseDir).andStdout(captureStdOutIfVerbose())
         .andStderr(printWith("stderr "));
 
+    if (this.pool.isEnabled()) {
+      return new PooledMutationTestProcess(this.pool, args, fileArgs,
+          remainingMutations.size(), this.timings);
+    }
+
     final SocketFinder sf = new SocketFinder();
-    final MutationTestProcess worker = new MutationTestProcess(
-        sf.getNextAvailableServerSocket(), args, fileArgs);
+    final MutationTestProcess worker = new SingleUseMutationTestProcess(
+        sf.getNextAvailableServerSocket(), args, fileArgs, this.timings);
     return worker;
   }
 
+  private Map<MutationIdentifier, byte[]> generateMutants(
+      final Collection<MutationDetails> remainingMutations) {
+    return this.mutants.map(m -> m.getBytes(remainingMutations))
+        .orElse(Collections.emptyMap());
+  }
+
   private SideEffect1<String> captureStdOutIfVerbose() {
     if (this.verbose) {
       return Prelude.printWith("stdout ");
@@ -155,6 +155,24 @@ public enum ConfigOption {
    */
   MUTATION_UNIT_SIZE("mutationUnitSize", 0),
 
+  /**
+   * Number of mutations a minion may analyse before it is replaced. If set
+   * to 0 a new minion is launched for every unit of analysis.
+   */
+  MINION_REUSE_LIMIT("minionReuseLimit", 0),
+
+  /**
+   * Generate mutant bytecode once in the main process and send it to minions
+   * rather than regenerating it in each minion.
+   */
+  GENERATE_MUTANTS_IN_PARENT("generateMutantsInParent", false),
+
+  /**
+   * Combine the mutants of each class into a single class and enable them in
+   * turn, rather than hot swapping each mutant
+   */
+  MUTANT_SCHEMATA("mutantSchemata", false),
+
   /**
    * Do/don't attempt to detect inlined code from finally blocks
    */
@@ -170,6 +188,25 @@ public enum ConfigOption {
    */
   HISTORY_OUTPUT_LOCATION("historyOutputLocation"),
 
+  /**
+   * Directory in which to store indexes of the classes held by archives on
+   * the classpath, so that unchanged archives need not be rescanned
+   */
+  CLASSPATH_INDEX_CACHE("classPathIndexCache"),
+
+  /**
+   * Directory in which to store archives of the classes loaded by minions, so
+   * that later minions start faster. Only takes effect when the classpath has
+   * no non-empty directories
+   */
+  CLASS_DATA_SHARING_ARCHIVES("classDataSharingArchives"),
+
+  /**
+   * File in which to store the coverage of each test class, so that later
+   * runs need not run unchanged tests to calculate coverage
+   */
+  COVERAGE_CACHE("coverageCache"),
+
   /**
    * Mutation score below which to throw an error
    */
@@ -195,6 +232,33 @@ public enum ConfigOption {
    */
   EXPORT_LINE_COVERAGE("exportLineCoverage", false),
 
+  /**
+   * Dump line coverage in a compact binary format rather than as xml
+   */
+  BINARY_LINE_COVERAGE("binaryLineCoverage", false),
+
+  /**
+   * Instrument code for coverage with probes suited to tests that run code on
+   * many threads
+   */
+  CONCURRENT_COVERAGE_PROBES("concurrentCoverageProbes", false),
+
+  /**
+   * Find mutations while coverage is being gathered
+   */
+  GENERATE_MUTANTS_DURING_COVERAGE("generateMutantsDuringCoverage", false),
+
+  /**
+   * Attempt to carry on in the same minion after a test times out
+   */
+  RECOVER_FROM_TIMEOUTS("recoverFromTimeouts", false),
+
+  /**
+   * Base the time allowed for each test on its duration against earlier
+   * mutants
+   */
+  ADAPTIVE_TIMEOUTS("adaptiveTimeouts", false),
+
   /**
    * Include launch classpath in analysis
    */
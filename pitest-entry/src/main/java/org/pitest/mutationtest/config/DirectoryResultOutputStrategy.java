@@ -14,11 +14,17 @@
  */
 package org.pitest.mutationtest.config;
 
+import java.io.BufferedOutputStream;
 import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileOutputStream;
 import java.io.FileWriter;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
 
 import org.pitest.util.ResultOutputStrategy;
 import org.pitest.util.Unchecked;
@@ -35,20 +41,52 @@ public class DirectoryResultOutputStrategy implements ResultOutputStrategy {
   @Override
   public Writer createWriterForFile(final String file) {
     try {
-      final int fileSepIndex = file.lastIndexOf(File.separatorChar);
-      if (fileSepIndex > 0) {
-        final String directory = this.reportDir.getAbsolutePath()
-            + File.separatorChar + file.substring(0, fileSepIndex);
-        final File directoryFile = new File(directory);
-        if (!directoryFile.exists()) {
-          directoryFile.mkdirs();
+      return new BufferedWriter(new FileWriter(fileFor(file)));
+    } catch (final IOException ex) {
+      throw Unchecked.translateCheckedException(ex);
+    }
+  }
+
+  /**
+   * Writes to a temporary name alongside the file, which is renamed to the
+   * file when the stream is closed.
+   */
+  @Override
+  public Optional<OutputStream> createOutputStreamForFile(final String file) {
+    final File target = fileFor(file);
+    final File temp = new File(target.getPath() + ".tmp");
+    try {
+      return Optional.of(new BufferedOutputStream(new FileOutputStream(temp)) {
+        private boolean closed = false;
+
+        @Override
+        public void close() throws IOException {
+          if (this.closed) {
+            return;
+          }
+          this.closed = true;
+          super.close();
+          Files.move(temp.toPath(), target.toPath(),
+              StandardCopyOption.REPLACE_EXISTING);
         }
-      }
-      return new BufferedWriter(new FileWriter(this.reportDir.getAbsolutePath()
-          + File.separatorChar + file));
+      });
     } catch (final IOException ex) {
       throw Unchecked.translateCheckedException(ex);
     }
   }
 
+  private File fileFor(final String file) {
+    final int fileSepIndex = file.lastIndexOf(File.separatorChar);
+    if (fileSepIndex > 0) {
+      final String directory = this.reportDir.getAbsolutePath()
+          + File.separatorChar + file.substring(0, fileSepIndex);
+      final File directoryFile = new File(directory);
+      if (!directoryFile.exists()) {
+        directoryFile.mkdirs();
+      }
+    }
+    return new File(this.reportDir.getAbsolutePath() + File.separatorChar
+        + file);
+  }
+
 }
\ No newline at end of file
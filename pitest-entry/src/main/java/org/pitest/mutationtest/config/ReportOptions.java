@@ -32,11 +32,14 @@ import java.util.Properties;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import org.pitest.classpath.ArchiveIndexCache;
 import org.pitest.classpath.ClassFilter;
 import org.pitest.classpath.ClassPath;
 import org.pitest.classpath.ClassPathRoot;
 import org.pitest.classpath.PathFilter;
 import org.pitest.classpath.ProjectClassPaths;
+import org.pitest.coverage.execute.CoverageCache;
+import org.pitest.coverage.execute.CoverageOptions;
 import org.pitest.functional.FCollection;
 import java.util.Optional;
 import org.pitest.functional.prelude.Prelude;
@@ -46,6 +49,7 @@ import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
 import org.pitest.mutationtest.incremental.FileWriterFactory;
 import org.pitest.mutationtest.incremental.NullWriterFactory;
 import org.pitest.mutationtest.incremental.WriterFactory;
+import org.pitest.process.LaunchOptions;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.testapi.execute.Pitest;
 import org.pitest.util.Glob;
@@ -87,9 +91,13 @@ public class ReportOptions {
 
   private File                           historyInputLocation;
   private File                           historyOutputLocation;
+  private File                           classPathIndexCache;
+  private File                           classDataSharingArchives;
+  private File                           coverageCache;
 
   private Collection<File>               sourceDirs;
   private Collection<String>             classPathElements;
+  private ClassPath                      classPath;
   private Collection<String>             mutators;
   private Collection<String>             features;
 
@@ -117,9 +125,17 @@ public class ReportOptions {
   private boolean                        fullMutationMatrix            = false;
 
   private int                            mutationUnitSize;
+  private boolean                        generateMutantsInParent;
+  private boolean                        mutantSchemata;
+  private int                            minionReuseLimit;
   private boolean                        shouldCreateTimestampedReports = true;
   private boolean                        detectInlinedCode              = false;
   private boolean                        exportLineCoverage             = false;
+  private boolean                        binaryLineCoverage             = false;
+  private boolean                        concurrentCoverageProbes       = false;
+  private boolean                        generateMutantsDuringCoverage  = false;
+  private boolean                        recoverFromTimeouts            = false;
+  private boolean                        adaptiveTimeouts               = false;
   private int                            mutationThreshold;
   private int                            coverageThreshold;
 
@@ -173,6 +189,7 @@ public class ReportOptions {
 
   public void setClassPathElements(final Collection<String> classPathElements) {
     this.classPathElements = classPathElements;
+    resetClassPath();
   }
 
   /**
@@ -231,17 +248,33 @@ public class ReportOptions {
     this.jvmArgs.addAll(args);
   }
 
+  /**
+   * The classpath is created on first use and shared by later callers, as it
+   * holds the archives on it open. It should be closed once the run is over.
+   */
   public ClassPath getClassPath() {
-    if (this.classPathElements != null) {
-      return createClassPathFromElements();
-    } else {
-      return new ClassPath();
+    if (this.classPath == null) {
+      if (this.classPathElements != null) {
+        this.classPath = createClassPathFromElements();
+      } else {
+        this.classPath = new ClassPath();
+      }
+    }
+    return this.classPath;
+  }
+
+  private void resetClassPath() {
+    if (this.classPath != null) {
+      this.classPath.close();
+      this.classPath = null;
     }
   }
 
   private ClassPath createClassPathFromElements() {
     return new ClassPath(
-        FCollection.map(this.classPathElements, stringToFile()));
+        FCollection.map(this.classPathElements, stringToFile()),
+        Optional.ofNullable(this.classPathIndexCache)
+            .map(dir -> new ArchiveIndexCache(dir)));
   }
 
   private static Function<String, File> stringToFile() {
@@ -444,6 +477,30 @@ public class ReportOptions {
     this.mutationUnitSize = size;
   }
 
+  public int getMinionReuseLimit() {
+    return this.minionReuseLimit;
+  }
+
+  public void setMinionReuseLimit(final int minionReuseLimit) {
+    this.minionReuseLimit = minionReuseLimit;
+  }
+
+  public boolean isGenerateMutantsInParent() {
+    return this.generateMutantsInParent;
+  }
+
+  public void setGenerateMutantsInParent(final boolean generateMutantsInParent) {
+    this.generateMutantsInParent = generateMutantsInParent;
+  }
+
+  public boolean isMutantSchemata() {
+    return this.mutantSchemata;
+  }
+
+  public void setMutantSchemata(final boolean mutantSchemata) {
+    this.mutantSchemata = mutantSchemata;
+  }
+
   public ResultOutputStrategy getReportDirectoryStrategy() {
     return new DirectoryResultOutputStrategy(getReportDir(),
         pickDirectoryStrategy());
@@ -499,6 +556,16 @@ public class ReportOptions {
     }
   }
 
+  /**
+   * Coverage is stored between runs, so that tests whose code is unchanged
+   * need not be run again to calculate coverage.
+   */
+  public Optional<CoverageCache> createCoverageCache(
+      final CoverageOptions coverageOptions, final LaunchOptions launchOptions) {
+    return Optional.ofNullable(this.coverageCache)
+        .map(file -> new CoverageCache(file, coverageOptions, launchOptions));
+  }
+
   public void setHistoryInputLocation(final File historyInputLocation) {
     this.historyInputLocation = historyInputLocation;
   }
@@ -515,6 +582,31 @@ public class ReportOptions {
     return this.historyOutputLocation;
   }
 
+  public File getClassPathIndexCache() {
+    return this.classPathIndexCache;
+  }
+
+  public void setClassPathIndexCache(final File classPathIndexCache) {
+    this.classPathIndexCache = classPathIndexCache;
+    resetClassPath();
+  }
+
+  public File getClassDataSharingArchives() {
+    return this.classDataSharingArchives;
+  }
+
+  public void setClassDataSharingArchives(final File classDataSharingArchives) {
+    this.classDataSharingArchives = classDataSharingArchives;
+  }
+
+  public File getCoverageCache() {
+    return this.coverageCache;
+  }
+
+  public void setCoverageCache(final File coverageCache) {
+    this.coverageCache = coverageCache;
+  }
+
   public void setExportLineCoverage(final boolean value) {
     this.exportLineCoverage = value;
   }
@@ -523,6 +615,46 @@ public class ReportOptions {
     return this.exportLineCoverage;
   }
 
+  public void setBinaryLineCoverage(final boolean value) {
+    this.binaryLineCoverage = value;
+  }
+
+  public boolean isBinaryLineCoverage() {
+    return this.binaryLineCoverage;
+  }
+
+  public void setConcurrentCoverageProbes(final boolean value) {
+    this.concurrentCoverageProbes = value;
+  }
+
+  public boolean isConcurrentCoverageProbes() {
+    return this.concurrentCoverageProbes;
+  }
+
+  public void setGenerateMutantsDuringCoverage(final boolean value) {
+    this.generateMutantsDuringCoverage = value;
+  }
+
+  public boolean isGenerateMutantsDuringCoverage() {
+    return this.generateMutantsDuringCoverage;
+  }
+
+  public void setRecoverFromTimeouts(final boolean value) {
+    this.recoverFromTimeouts = value;
+  }
+
+  public boolean isRecoverFromTimeouts() {
+    return this.recoverFromTimeouts;
+  }
+
+  public void setAdaptiveTimeouts(final boolean value) {
+    this.adaptiveTimeouts = value;
+  }
+
+  public boolean isAdaptiveTimeouts() {
+    return this.adaptiveTimeouts;
+  }
+
   public int getMutationThreshold() {
     return this.mutationThreshold;
   }
@@ -626,7 +758,10 @@ public class ReportOptions {
         + excludedClasses + ", excludedTestClasses=" + excludedTestClasses
         + ", codePaths=" + codePaths + ", reportDir=" + reportDir
         + ", historyInputLocation=" + historyInputLocation
-        + ", historyOutputLocation=" + historyOutputLocation + ", sourceDirs="
+        + ", historyOutputLocation=" + historyOutputLocation
+        + ", classPathIndexCache=" + classPathIndexCache
+        + ", classDataSharingArchives=" + classDataSharingArchives
+        + ", coverageCache=" + coverageCache + ", sourceDirs="
         + sourceDirs + ", classPathElements=" + classPathElements
         + ", mutators=" + mutators + ", features=" + features
         + ", dependencyAnalysisMaxDistance=" + dependencyAnalysisMaxDistance
@@ -637,9 +772,17 @@ public class ReportOptions {
         + ", verbose=" + verbose + ", failWhenNoMutations="
         + failWhenNoMutations + ", outputs=" + outputs + ", groupConfig="
         + groupConfig + ", fullMutationMatrix=" + fullMutationMatrix + ", mutationUnitSize=" + mutationUnitSize
+        + ", generateMutantsInParent=" + generateMutantsInParent
+        + ", mutantSchemata=" + mutantSchemata
+        + ", minionReuseLimit=" + minionReuseLimit
         + ", shouldCreateTimestampedReports=" + shouldCreateTimestampedReports
         + ", detectInlinedCode=" + detectInlinedCode + ", exportLineCoverage="
-        + exportLineCoverage + ", mutationThreshold=" + mutationThreshold
+        + exportLineCoverage + ", binaryLineCoverage=" + binaryLineCoverage
+        + ", concurrentCoverageProbes=" + concurrentCoverageProbes
+        + ", generateMutantsDuringCoverage=" + generateMutantsDuringCoverage
+        + ", recoverFromTimeouts=" + recoverFromTimeouts
+        + ", adaptiveTimeouts=" + adaptiveTimeouts
+        + ", mutationThreshold=" + mutationThreshold
         + ", coverageThreshold=" + coverageThreshold + ", mutationEngine="
         + mutationEngine + ", javaExecutable=" + javaExecutable
         + ", includeLaunchClasspath=" + includeLaunchClasspath + ", properties="
@@ -10,6 +10,7 @@ import java.util.stream.Collectors;
 
 import org.pitest.coverage.CoverageExporter;
 import org.pitest.coverage.execute.CoverageOptions;
+import org.pitest.coverage.export.BinaryCoverageExporter;
 import org.pitest.coverage.export.DefaultCoverageExporter;
 import org.pitest.coverage.export.NullCoverageExporter;
 import org.pitest.functional.FCollection;
@@ -50,7 +51,10 @@ public class SettingsFactory {
   }
 
   public CoverageExporter createCoverageExporter() {
-    if (this.options.shouldExportLineCoverage()) {
+    if (this.options.shouldExportLineCoverage()
+        && this.options.isBinaryLineCoverage()) {
+      return new BinaryCoverageExporter(getOutputStrategy());
+    } else if (this.options.shouldExportLineCoverage()) {
       return new DefaultCoverageExporter(getOutputStrategy());
     } else {
       return new NullCoverageExporter();
@@ -119,7 +123,8 @@ public class SettingsFactory {
     return new CoverageOptions(
         this.options.getTargetClasses(), this.options.getExcludedClasses(),
         this.options.createMinionSettings(), this.options.isVerbose(),
-        this.options.getDependencyAnalysisMaxDistance());
+        this.options.getDependencyAnalysisMaxDistance(),
+        this.options.isConcurrentCoverageProbes());
   }
 
   public CompoundInterceptorFactory getInterceptor() {
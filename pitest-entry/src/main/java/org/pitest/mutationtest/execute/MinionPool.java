@@ -0,0 +1,68 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.logging.Logger;
+
+import org.pitest.process.ProcessArgs;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Log;
+
+/**
+ * Holds idle mutation test minions so that they can be reused by later units
+ * of analysis, avoiding the cost of launching a JVM and discovering tests for
+ * every unit.
+ *
+ * A minion is only returned to the pool if it reported a clean exit and has
+ * analysed fewer mutations than the reuse limit. Minions that crash, time out
+ * or run out of memory are always discarded.
+ */
+public class MinionPool {
+
+  private static final Logger      LOG  = Log.getLogger();
+
+  private final int                reuseLimit;
+  private final Deque<PooledMinion> idle = new ArrayDeque<>();
+
+  public MinionPool(final int reuseLimit) {
+    this.reuseLimit = reuseLimit;
+  }
+
+  public static MinionPool disabled() {
+    return new MinionPool(0);
+  }
+
+  public boolean isEnabled() {
+    return this.reuseLimit > 0;
+  }
+
+  synchronized PooledMinion acquire(final ProcessArgs args) {
+    while (!this.idle.isEmpty()) {
+      final PooledMinion minion = this.idle.pop();
+      if (minion.isAlive()) {
+        return minion;
+      }
+      minion.shutdown();
+    }
+    return new PooledMinion(args);
+  }
+
+  synchronized void release(final PooledMinion minion,
+      final ExitCode exitCode) {
+    if (exitCode.isOk() && (minion.mutationsAnalysed() < this.reuseLimit)) {
+      this.idle.push(minion);
+    } else {
+      LOG.fine("Retiring minion after " + minion.mutationsAnalysed()
+          + " mutations with exit code " + exitCode);
+      minion.shutdown();
+    }
+  }
+
+  public synchronized void shutdown() {
+    for (final PooledMinion each : this.idle) {
+      each.shutdown();
+    }
+    this.idle.clear();
+  }
+
+}
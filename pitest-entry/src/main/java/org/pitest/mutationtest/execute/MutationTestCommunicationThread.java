@@ -15,12 +15,19 @@
 package org.pitest.mutationtest.execute;
 
 import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.logging.Logger;
 
 import org.pitest.functional.SideEffect1;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.CommunicationThread;
 import org.pitest.util.Id;
@@ -28,6 +35,7 @@ import org.pitest.util.Log;
 import org.pitest.util.ReceiveStrategy;
 import org.pitest.util.SafeDataInputStream;
 import org.pitest.util.SafeDataOutputStream;
+import org.pitest.util.Timings;
 
 public class MutationTestCommunicationThread extends CommunicationThread {
 
@@ -47,12 +55,37 @@ public class MutationTestCommunicationThread extends CommunicationThread {
     }
   }
 
-  private static class Receive implements ReceiveStrategy {
+  /**
+   * Reads the records sent by {@link DefaultReporter}, which refer to
+   * mutants by their position in the batch and to test names by the order in
+   * which they were first sent.
+   */
+  static class Receive implements ReceiveStrategy {
 
+    private static final DetectionStatus[]                      STATUSES  = DetectionStatus
+        .values();
+
+    private final List<MutationIdentifier>                      mutations = new ArrayList<>();
+    private final List<String>                                  testNames = new ArrayList<>();
     private final Map<MutationIdentifier, MutationStatusTestPair> idMap;
+    private final TimeoutLengthStrategy                         timeoutStrategy;
+    private final Timings                                       timings;
+
+    Receive(final Collection<MutationDetails> mutations,
+        final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+        final TimeoutLengthStrategy timeoutStrategy) {
+      this(mutations, idMap, timeoutStrategy, new Timings());
+    }
 
-    Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap) {
+    Receive(final Collection<MutationDetails> mutations,
+        final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+        final TimeoutLengthStrategy timeoutStrategy, final Timings timings) {
+      for (final MutationDetails each : mutations) {
+        this.mutations.add(each.getId());
+      }
       this.idMap = idMap;
+      this.timeoutStrategy = timeoutStrategy;
+      this.timings = timings;
     }
 
     @Override
@@ -64,23 +97,62 @@ public class MutationTestCommunicationThread extends CommunicationThread {
       case Id.REPORT:
         handleReport(is);
         break;
+      case Id.DURATIONS:
+        handleDurations(is);
+        break;
+      case Id.REDEFINITIONS:
+        this.timings.registerRedefinitions(is.readVarInt(), is.readLong());
+        break;
       }
     }
 
     private void handleReport(final SafeDataInputStream is) {
-      final MutationIdentifier mutation = is.read(MutationIdentifier.class);
-      final MutationStatusTestPair value = is
-          .read(MutationStatusTestPair.class);
+      final MutationIdentifier mutation = this.mutations.get(is.readVarInt());
+      final DetectionStatus status = STATUSES[is.readVarInt()];
+      final int testsRun = is.readVarInt();
+      final List<String> killingTests = readTestNames(is);
+      final List<String> succeedingTests = readTestNames(is);
+      final MutationStatusTestPair value = new MutationStatusTestPair(
+          testsRun, status, killingTests, succeedingTests);
       this.idMap.put(mutation, value);
       LOG.fine(mutation + " " + value);
     }
 
+    private void handleDurations(final SafeDataInputStream is) {
+      final int count = is.readVarInt();
+      final Map<String, Long> durations = new HashMap<>();
+      for (int i = 0; i != count; i++) {
+        durations.put(readTestName(is), (long) is.readVarInt());
+      }
+      this.timeoutStrategy.addExpectedDurations(durations);
+    }
+
     private void handleDescribe(final SafeDataInputStream is) {
-      final MutationIdentifier mutation = is.read(MutationIdentifier.class);
+      final MutationIdentifier mutation = this.mutations.get(is.readVarInt());
       this.idMap.put(mutation, MutationStatusTestPair.notAnalysed(1,
           DetectionStatus.STARTED));
     }
 
+    private List<String> readTestNames(final SafeDataInputStream is) {
+      final int count = is.readVarInt();
+      if (count == 0) {
+        return Collections.emptyList();
+      }
+      final List<String> names = new ArrayList<>(count);
+      for (int i = 0; i != count; i++) {
+        names.add(readTestName(is));
+      }
+      return names;
+    }
+
+    private String readTestName(final SafeDataInputStream is) {
+      final int index = is.readVarInt();
+      if (index == this.testNames.size()) {
+        this.testNames.add(is.readString());
+      }
+      return this.testNames.get(index);
+    }
+
   }
 
   private final Map<MutationIdentifier, MutationStatusTestPair> idMap;
@@ -88,7 +160,15 @@ public class MutationTestCommunicationThread extends CommunicationThread {
   public MutationTestCommunicationThread(final ServerSocket socket,
       final MinionArguments arguments,
       final Map<MutationIdentifier, MutationStatusTestPair> idMap) {
-    super(socket, new SendData(arguments), new Receive(idMap));
+    this(socket, arguments, idMap, new Timings());
+  }
+
+  public MutationTestCommunicationThread(final ServerSocket socket,
+      final MinionArguments arguments,
+      final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+      final Timings timings) {
+    super(socket, new SendData(arguments), new Receive(arguments.mutations,
+        idMap, arguments.timeoutStrategy, timings));
     this.idMap = idMap;
   }
 
@@ -0,0 +1,103 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.process.ProcessArgs;
+import org.pitest.process.WrappingProcess;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Id;
+import org.pitest.util.Log;
+import org.pitest.util.ReceiveStrategy;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+import org.pitest.util.SocketFinder;
+
+/**
+ * A mutation test minion that keeps its connection open between batches of
+ * mutations. The minion is launched when the first batch is sent, and each
+ * later batch is preceded by a flag telling the minion more work follows.
+ */
+class PooledMinion {
+
+  private static final Logger  LOG = Log.getLogger();
+
+  private final ServerSocket   serverSocket;
+  private final WrappingProcess process;
+
+  private Socket               socket;
+  private SafeDataOutputStream os;
+  private SafeDataInputStream  is;
+  private int                  mutationsAnalysed;
+
+  PooledMinion(final ProcessArgs args) {
+    this.serverSocket = new SocketFinder().getNextAvailableServerSocket();
+    this.process = new WrappingProcess(this.serverSocket.getLocalPort(), args,
+        MutationTestMinion.class);
+  }
+
+  boolean send(final MinionArguments arguments, final int numberOfMutations) {
+    try {
+      if (this.socket == null) {
+        connect();
+      } else {
+        this.os.writeBoolean(true);
+      }
+      this.os.write(arguments);
+      this.os.flush();
+      this.mutationsAnalysed += numberOfMutations;
+      return true;
+    } catch (final IOException | RuntimeException ex) {
+      LOG.log(Level.WARNING, "Could not send mutations to minion", ex);
+      return false;
+    }
+  }
+
+  ExitCode receive(final ReceiveStrategy receive) {
+    try {
+      byte control = this.is.readByte();
+      while (control != Id.DONE) {
+        receive.apply(control, this.is);
+        control = this.is.readByte();
+      }
+      return ExitCode.fromCode(this.is.readInt());
+    } catch (final RuntimeException ex) {
+      LOG.log(Level.WARNING, "Error while watching child process", ex);
+      return ExitCode.UNKNOWN_ERROR;
+    }
+  }
+
+  boolean isAlive() {
+    return (this.socket == null) || this.process.getProcess().isAlive();
+  }
+
+  int mutationsAnalysed() {
+    return this.mutationsAnalysed;
+  }
+
+  void shutdown() {
+    try {
+      if (this.socket != null) {
+        this.socket.close();
+        this.process.destroy();
+      }
+      this.serverSocket.close();
+    } catch (final IOException ex) {
+      LOG.log(Level.FINE, "Error closing minion connection", ex);
+    }
+  }
+
+  private void connect() throws IOException {
+    this.process.start();
+    this.socket = this.serverSocket.accept();
+    this.serverSocket.close();
+    this.os = new SafeDataOutputStream(this.socket.getOutputStream());
+    this.is = new SafeDataInputStream(new BufferedInputStream(
+        this.socket.getInputStream()));
+  }
+
+}
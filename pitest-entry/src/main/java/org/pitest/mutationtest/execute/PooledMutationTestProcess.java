@@ -0,0 +1,83 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.pitest.mutationtest.MutationStatusMap;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.process.ProcessArgs;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Timings;
+
+/**
+ * Runs a set of mutations in a minion borrowed from a {@link MinionPool}. The
+ * minion is handed back to the pool once it has reported done.
+ */
+public class PooledMutationTestProcess implements MutationTestProcess {
+
+  private final MinionPool                                      pool;
+  private final ProcessArgs                                     processArgs;
+  private final MinionArguments                                 arguments;
+  private final int                                             numberOfMutations;
+  private final Timings                                         timings;
+  private final Map<MutationIdentifier, MutationStatusTestPair> idMap = new HashMap<>();
+
+  private PooledMinion                                          minion;
+  private boolean                                               sent;
+
+  public PooledMutationTestProcess(final MinionPool pool,
+      final ProcessArgs processArgs, final MinionArguments arguments,
+      final int numberOfMutations) {
+    this(pool, processArgs, arguments, numberOfMutations, new Timings());
+  }
+
+  /**
+   * @param timings
+   *          to which the time the minion spends redefining classes is added
+   */
+  public PooledMutationTestProcess(final MinionPool pool,
+      final ProcessArgs processArgs, final MinionArguments arguments,
+      final int numberOfMutations, final Timings timings) {
+    this.pool = pool;
+    this.processArgs = processArgs;
+    this.arguments = arguments;
+    this.numberOfMutations = numberOfMutations;
+    this.timings = timings;
+  }
+
+  @Override
+  public void start() throws IOException, InterruptedException {
+    this.minion = this.pool.acquire(this.processArgs);
+    this.sent = this.minion.send(this.arguments, this.numberOfMutations);
+  }
+
+  @Override
+  public void results(final MutationStatusMap allmutations) throws IOException {
+    for (final MutationDetails each : allmutations.allMutations()) {
+      final MutationStatusTestPair status = this.idMap.get(each.getId());
+      if (status != null) {
+        allmutations.setStatusForMutation(each, status);
+      }
+    }
+  }
+
+  @Override
+  public ExitCode waitToDie() {
+    ExitCode exitCode = ExitCode.UNKNOWN_ERROR;
+    try {
+      if (this.sent) {
+        exitCode = this.minion.receive(
+            new MutationTestCommunicationThread.Receive(
+                this.arguments.mutations, this.idMap,
+                this.arguments.timeoutStrategy, this.timings));
+      }
+      return exitCode;
+    } finally {
+      this.pool.release(this.minion, exitCode);
+    }
+  }
+
+}
@@ -23,6 +23,7 @@ import org.pitest.mutationtest.incremental.ObjectOutputStreamHistoryStore;
 import org.pitest.mutationtest.incremental.WriterFactory;
 import org.pitest.plugin.Feature;
 import org.pitest.plugin.FeatureParameter;
+import org.pitest.process.ClassDataSharing;
 import org.pitest.process.JavaAgent;
 import org.pitest.process.LaunchOptions;
 import org.pitest.util.Log;
@@ -97,7 +98,9 @@ public class EntryPoint {
     final CoverageOptions coverageOptions = settings.createCoverageOptions();
     final LaunchOptions launchOptions = new LaunchOptions(ja,
         settings.getJavaExecutable(), data.getJvmArgs(), environmentVariables)
-        .usingClassPathJar(data.useClasspathJar());
+        .usingClassPathJar(data.useClasspathJar())
+        .usingClassDataSharing(Optional.ofNullable(
+            data.getClassDataSharingArchives()).map(ClassDataSharing::new));
     final ProjectClassPaths cps = data.getMutationClassPaths();
 
     final CodeSource code = new CodeSource(cps);
@@ -105,7 +108,9 @@ public class EntryPoint {
     final Timings timings = new Timings();
     final CoverageGenerator coverageDatabase = new DefaultCoverageGenerator(
         baseDir, coverageOptions, launchOptions, code,
-        settings.createCoverageExporter(), timings, !data.isVerbose());
+        settings.createCoverageExporter(), timings, !data.isVerbose(),
+        data.getNumberOfThreads(),
+        data.createCoverageCache(coverageOptions, launchOptions));
 
     final HistoryStore history = new ObjectOutputStreamHistoryStore(historyWriter, reader);
 
@@ -124,6 +129,8 @@ public class EntryPoint {
       jac.close();
       ja.close();
       historyWriter.close();
+      // the code source shares the same classpath
+      cp.close();
     }
 
   }
@@ -45,17 +45,24 @@ import org.pitest.mutationtest.ListenerArguments;
 import org.pitest.mutationtest.MutationAnalyser;
 import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.mutationtest.build.AdaptiveTimeoutStrategy;
+import org.pitest.mutationtest.build.InterceptingMutationFinder;
+import org.pitest.mutationtest.build.MutantCache;
 import org.pitest.mutationtest.build.MutationAnalysisUnit;
+import org.pitest.mutationtest.build.MutationFinder;
 import org.pitest.mutationtest.build.MutationGrouper;
 import org.pitest.mutationtest.build.MutationInterceptor;
 import org.pitest.mutationtest.build.MutationSource;
 import org.pitest.mutationtest.build.MutationTestBuilder;
 import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
+import org.pitest.mutationtest.build.PrefetchingMutationFinder;
 import org.pitest.mutationtest.build.TestPrioritiser;
 import org.pitest.mutationtest.build.WorkerFactory;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.SettingsFactory;
 import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.mutationtest.execute.MinionPool;
 import org.pitest.mutationtest.execute.MutationAnalysisExecutor;
 import org.pitest.mutationtest.incremental.DefaultCodeHistory;
 import org.pitest.mutationtest.incremental.HistoryListener;
@@ -112,29 +119,54 @@ public class MutationCoverage {
 
     checkExcludedRunners();
 
-    final CoverageDatabase coverageData = coverage().calculateCoverage();
-
-    LOG.fine("Used memory after coverage calculation "
-        + ((runtime.totalMemory() - runtime.freeMemory()) / MB) + " mb");
-    LOG.fine("Free Memory after coverage calculation "
-        + (runtime.freeMemory() / MB) + " mb");
-
-    final MutationStatisticsListener stats = new MutationStatisticsListener();
-
     final EngineArguments args = EngineArguments.arguments()
         .withExcludedMethods(this.data.getExcludedMethods())
-        .withMutators(this.data.getMutators());
+        .withMutators(this.data.getMutators())
+        .withMutantSchemata(this.data.isMutantSchemata());
     final MutationEngine engine = this.strategies.factory().createEngine(args);
 
-    final List<MutationResultListener> config = createConfig(t0, coverageData,
-        stats, engine);
+    final MutationConfig mutationConfig = new MutationConfig(engine, coverage()
+        .getLaunchOptions());
+
+    final ClassByteArraySource bas = fallbackToClassLoader(new ClassPathByteArraySource(
+        this.code.getClassPath()));
+
+    final Optional<MutantCache> mutants = this.data.isGenerateMutantsInParent()
+        ? Optional.of(new MutantCache(() -> mutationConfig.createMutator(bas)))
+        : Optional.<MutantCache> empty();
+
+    final MutationInterceptor interceptor = this.settings.getInterceptor()
+        .createInterceptor(this.data, bas);
+
+    final MutationFinder finder = new InterceptingMutationFinder(
+        mutationConfig, bas, interceptor, mutants);
 
-    history().initialize();
+    final Optional<PrefetchingMutationFinder> prefetcher = startFindingMutations(finder);
 
-    this.timings.registerStart(Timings.Stage.BUILD_MUTATION_TESTS);
-    final List<MutationAnalysisUnit> tus = buildMutationTests(coverageData,
-        engine, args);
-    this.timings.registerEnd(Timings.Stage.BUILD_MUTATION_TESTS);
+    final CoverageDatabase coverageData;
+    final List<MutationAnalysisUnit> tus;
+    final MutationStatisticsListener stats = new MutationStatisticsListener();
+    final List<MutationResultListener> config;
+    final MinionPool pool = new MinionPool(this.data.getMinionReuseLimit());
+    try {
+      coverageData = coverage().calculateCoverage();
+
+      LOG.fine("Used memory after coverage calculation "
+          + ((runtime.totalMemory() - runtime.freeMemory()) / MB) + " mb");
+      LOG.fine("Free Memory after coverage calculation "
+          + (runtime.freeMemory() / MB) + " mb");
+
+      config = createConfig(t0, coverageData, stats, engine);
+
+      history().initialize();
+
+      this.timings.registerStart(Timings.Stage.BUILD_MUTATION_TESTS);
+      tus = buildMutationTests(coverageData, mutationConfig, args, pool,
+          prefetcher.isPresent() ? prefetcher.get() : finder, mutants);
+      this.timings.registerEnd(Timings.Stage.BUILD_MUTATION_TESTS);
+    } finally {
+      prefetcher.ifPresent(PrefetchingMutationFinder::shutdown);
+    }
 
     LOG.info("Created  " + tus.size() + " mutation test units");
     checkMutationsFound(tus);
@@ -149,7 +181,11 @@ public class MutationCoverage {
     final MutationAnalysisExecutor mae = new MutationAnalysisExecutor(
         numberOfThreads(), config);
     this.timings.registerStart(Timings.Stage.RUN_MUTATION_TESTS);
-    mae.run(tus);
+    try {
+      mae.run(tus);
+    } finally {
+      pool.shutdown();
+    }
     this.timings.registerEnd(Timings.Stage.RUN_MUTATION_TESTS);
 
     LOG.info("Completed in " + timeSpan(t0));
@@ -245,32 +281,41 @@ private int numberOfThreads() {
     stats.getStatistics().report(ps);
   }
 
-  private List<MutationAnalysisUnit> buildMutationTests(
-      final CoverageDatabase coverageData, final MutationEngine engine, EngineArguments args) {
-
-    final MutationConfig mutationConfig = new MutationConfig(engine, coverage()
-        .getLaunchOptions());
+  /**
+   * Finding and intercepting mutations needs no coverage, so when enabled it
+   * is started on a background thread while coverage is gathered. Tests can
+   * only be assigned to the mutations once coverage is complete.
+   */
+  private Optional<PrefetchingMutationFinder> startFindingMutations(
+      final MutationFinder finder) {
+    if (!this.data.isGenerateMutantsDuringCoverage()) {
+      return Optional.empty();
+    }
+    final PrefetchingMutationFinder prefetcher = new PrefetchingMutationFinder(
+        finder);
+    prefetcher.prefetch(this.code.getCodeUnderTestNames());
+    return Optional.of(prefetcher);
+  }
 
-    final ClassByteArraySource bas = fallbackToClassLoader(new ClassPathByteArraySource(
-        this.data.getClassPath()));
+  private List<MutationAnalysisUnit> buildMutationTests(
+      final CoverageDatabase coverageData, final MutationConfig mutationConfig,
+      EngineArguments args, MinionPool pool, final MutationFinder finder,
+      final Optional<MutantCache> mutants) {
 
     final TestPrioritiser testPrioritiser = this.settings.getTestPrioritiser()
         .makeTestPrioritiser(this.data.getFreeFormProperties(), this.code,
             coverageData);
 
-    final MutationInterceptor interceptor = this.settings.getInterceptor()
-        .createInterceptor(this.data, bas);
-
-    final MutationSource source = new MutationSource(mutationConfig, testPrioritiser, bas, interceptor);
+    final MutationSource source = new MutationSource(finder, testPrioritiser);
 
     final MutationAnalyser analyser = new IncrementalAnalyser(
         new DefaultCodeHistory(this.code, history()), coverageData);
 
     final WorkerFactory wf = new WorkerFactory(this.baseDir, coverage()
         .getConfiguration(), mutationConfig, args,
-        new PercentAndConstantTimeoutStrategy(this.data.getTimeoutFactor(),
-            this.data.getTimeoutConstant()), this.data.isVerbose(), this.data.isFullMutationMatrix(),
-            this.data.getClassPath().getLocalClassPath());
+        timeoutStrategy(), this.data.isVerbose(), this.data.isFullMutationMatrix(),
+            this.data.getClassPath().getLocalClassPath(), pool, mutants,
+            this.data.isRecoverFromTimeouts(), this.timings);
 
     final MutationGrouper grouper = this.settings.getMutationGrouper().makeFactory(
         this.data.getFreeFormProperties(), this.code,
@@ -281,6 +326,15 @@ private int numberOfThreads() {
     return builder.createMutationTestUnits(this.code.getCodeUnderTestNames());
   }
 
+  private TimeoutLengthStrategy timeoutStrategy() {
+    if (this.data.isAdaptiveTimeouts()) {
+      return new AdaptiveTimeoutStrategy(this.data.getTimeoutFactor(),
+          this.data.getTimeoutConstant());
+    }
+    return new PercentAndConstantTimeoutStrategy(this.data.getTimeoutFactor(),
+        this.data.getTimeoutConstant());
+  }
+
   private void checkMutationsFound(final List<MutationAnalysisUnit> tus) {
     if (tus.isEmpty()) {
       if (this.data.shouldFailWhenNoMutations()) {
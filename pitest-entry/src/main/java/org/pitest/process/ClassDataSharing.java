@@ -0,0 +1,207 @@
+package org.pitest.process;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+import org.pitest.util.Log;
+
+/**
+ * Shares class data between minion JVMs, so that each need not load and
+ * verify the pitest, test framework and project classes from scratch.
+ *
+ * The first minion launched with each main class and classpath dumps an
+ * archive of the classes it loaded when it exits. Minions launched after that
+ * map the archive. Archives are named by a hash of the java executable, the
+ * main class and the size and modification time of each classpath entry, so
+ * a changed classpath is given a new archive.
+ *
+ * Dynamic archives need Java 13 or later. The JVM will not dump an archive
+ * once it has loaded a class from a non-empty directory, wherever that
+ * directory appears on the classpath, so class data is only shared for
+ * classpaths of jars and empty directories, as when the code under test is
+ * packaged. It is not shared either for a classpath whose dump has failed
+ * twice.
+ */
+public class ClassDataSharing {
+
+  private static final Logger             LOG                 = Log.getLogger();
+
+  private static final int                MIN_JAVA_VERSION    = 13;
+  private static final int                MAX_DUMP_ATTEMPTS   = 2;
+  private static final Pattern            VERSION             = Pattern
+      .compile("version \"(?:1\\.)?(\\d+)");
+
+  private final File                      directory;
+  private final Function<String, Integer> versionOf;
+  private final Map<String, Integer>      versions            = new HashMap<>();
+
+  // archives being dumped, mapped to the minion dumping them once it has
+  // started
+  private final Map<String, Process>      dumping             = new HashMap<>();
+
+  // number of times each archive has failed to dump, as a minion may be
+  // killed before it exits normally
+  private final Map<String, Integer>      failedDumps         = new HashMap<>();
+
+  // archives that cannot be dumped, so are not attempted again
+  private final Set<String>               unavailable         = new HashSet<>();
+
+  public ClassDataSharing(final File directory) {
+    this(directory, ClassDataSharing::javaVersion);
+  }
+
+  ClassDataSharing(final File directory,
+      final Function<String, Integer> versionOf) {
+    this.directory = directory;
+    this.versionOf = versionOf;
+  }
+
+  /**
+   * @return arguments with which to launch a minion so that it maps the
+   *         archive for its classpath, or dumps it if none yet exists
+   */
+  public synchronized List<String> launchArgs(final String javaExecutable,
+      final String classPath, final Class<?> mainClass) {
+    if (this.versions.computeIfAbsent(javaExecutable,
+        this.versionOf) < MIN_JAVA_VERSION) {
+      return Collections.emptyList();
+    }
+
+    final String name = archiveName(javaExecutable, classPath, mainClass);
+    if (this.unavailable.contains(name)) {
+      return Collections.emptyList();
+    }
+
+    final File archive = new File(this.directory, name);
+    if (archive.exists()) {
+      return Collections
+          .singletonList("-XX:SharedArchiveFile=" + archive.getAbsolutePath());
+    }
+
+    final File dump = new File(this.directory, name + ".tmp");
+    if (this.dumping.containsKey(name)) {
+      final Process minion = this.dumping.get(name);
+      if ((minion == null) || minion.isAlive()) {
+        return Collections.emptyList();
+      }
+      this.dumping.remove(name);
+      // the archive is written as the minion exits, so is complete once it
+      // has done so
+      if (dump.renameTo(archive)) {
+        return launchArgs(javaExecutable, classPath, mainClass);
+      }
+      if (this.failedDumps.merge(name, 1, Integer::sum) < MAX_DUMP_ATTEMPTS) {
+        LOG.fine("Dumping class data archive for " + mainClass.getName()
+            + " again");
+        return launchArgs(javaExecutable, classPath, mainClass);
+      }
+      LOG.info("No class data archive was dumped for " + mainClass.getName()
+          + ", so class data will not be shared");
+      this.unavailable.add(name);
+      return Collections.emptyList();
+    }
+
+    final String directoryEntry = nonEmptyDirectory(classPath);
+    if (directoryEntry != null) {
+      LOG.info("Class data will not be shared for " + mainClass.getName()
+          + " as its classpath contains the directory " + directoryEntry);
+      this.unavailable.add(name);
+      return Collections.emptyList();
+    }
+
+    this.directory.mkdirs();
+    dump.delete();
+    this.dumping.put(name, null);
+    return Collections.singletonList(dumpArg(name));
+  }
+
+  /**
+   * Called once a minion launched with arguments returned by
+   * {@link #launchArgs} has started.
+   */
+  public synchronized void started(final List<String> launchArgs,
+      final Process minion) {
+    for (final Map.Entry<String, Process> each : this.dumping.entrySet()) {
+      if ((each.getValue() == null)
+          && launchArgs.contains(dumpArg(each.getKey()))) {
+        each.setValue(minion);
+      }
+    }
+  }
+
+  private String dumpArg(final String name) {
+    return "-XX:ArchiveClassesAtExit="
+        + new File(this.directory, name + ".tmp").getAbsolutePath();
+  }
+
+  private static String nonEmptyDirectory(final String classPath) {
+    for (final String each : classPath.split(File.pathSeparator)) {
+      final String[] contents = new File(each).list();
+      if ((contents != null) && (contents.length != 0)) {
+        return each;
+      }
+    }
+    return null;
+  }
+
+  private static String archiveName(final String javaExecutable,
+      final String classPath, final Class<?> mainClass) {
+    final CRC32 crc = new CRC32();
+    update(crc, javaExecutable);
+    for (final String each : classPath.split(File.pathSeparator)) {
+      final File entry = new File(each);
+      update(crc, entry.getAbsolutePath());
+      // only jars and empty directories are archived, so the size and time
+      // of a directory do not matter
+      if (!entry.isDirectory()) {
+        update(crc, entry.length() + ":" + entry.lastModified());
+      }
+    }
+    return mainClass.getSimpleName() + "-" + Long.toHexString(crc.getValue())
+        + ".jsa";
+  }
+
+  private static void update(final CRC32 crc, final String value) {
+    crc.update(value.getBytes(StandardCharsets.UTF_8));
+    crc.update(0);
+  }
+
+  static int javaVersion(final String javaExecutable) {
+    try {
+      final Process p = new ProcessBuilder(javaExecutable, "-version")
+          .redirectErrorStream(true).start();
+      try (BufferedReader output = new BufferedReader(
+          new InputStreamReader(p.getInputStream(), StandardCharsets.UTF_8))) {
+        String line;
+        while ((line = output.readLine()) != null) {
+          final Matcher m = VERSION.matcher(line);
+          if (m.find()) {
+            return Integer.parseInt(m.group(1));
+          }
+        }
+      } finally {
+        p.destroy();
+      }
+    } catch (final IOException e) {
+      LOG.fine("Could not run " + javaExecutable + " -version " + e);
+    }
+    LOG.info("Class data will not be shared as the version of "
+        + javaExecutable + " is unknown");
+    return 0;
+  }
+
+}
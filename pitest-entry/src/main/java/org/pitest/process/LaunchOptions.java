@@ -18,6 +18,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 public class LaunchOptions {
 
@@ -26,6 +27,7 @@ public class LaunchOptions {
   private final JavaExecutableLocator javaExecutable;
   private final Map<String, String>   environmentVariables;
   private final boolean               usingClassPathJar;
+  private final Optional<ClassDataSharing> classDataSharing;
 
   public LaunchOptions(JavaAgent javaAgentFinder) {
     this(javaAgentFinder, new DefaultJavaExecutableLocator(), Collections
@@ -41,11 +43,20 @@ public class LaunchOptions {
   public LaunchOptions(JavaAgent javaAgentFinder,
       JavaExecutableLocator javaExecutable, List<String> childJVMArgs,
       Map<String, String> environmentVariables, boolean usingClassPathJar) {
+    this(javaAgentFinder, javaExecutable, childJVMArgs, environmentVariables,
+        usingClassPathJar, Optional.empty());
+  }
+
+  public LaunchOptions(JavaAgent javaAgentFinder,
+      JavaExecutableLocator javaExecutable, List<String> childJVMArgs,
+      Map<String, String> environmentVariables, boolean usingClassPathJar,
+      Optional<ClassDataSharing> classDataSharing) {
     this.javaAgentFinder = javaAgentFinder;
     this.childJVMArgs = childJVMArgs;
     this.javaExecutable = javaExecutable;
     this.environmentVariables = environmentVariables;
     this.usingClassPathJar = usingClassPathJar;
+    this.classDataSharing = classDataSharing;
   }
 
   public JavaAgent getJavaAgentFinder() {
@@ -65,10 +76,18 @@ public class LaunchOptions {
   }
 
   public LaunchOptions usingClassPathJar(boolean useJar) {
-    return new LaunchOptions(javaAgentFinder, javaExecutable, childJVMArgs, environmentVariables, useJar);
+    return new LaunchOptions(javaAgentFinder, javaExecutable, childJVMArgs, environmentVariables, useJar, classDataSharing);
   }
   
   public boolean useClasspathJar() {
     return usingClassPathJar;
   }
+
+  public LaunchOptions usingClassDataSharing(Optional<ClassDataSharing> sharing) {
+    return new LaunchOptions(javaAgentFinder, javaExecutable, childJVMArgs, environmentVariables, usingClassPathJar, sharing);
+  }
+
+  public Optional<ClassDataSharing> getClassDataSharing() {
+    return classDataSharing;
+  }
 }
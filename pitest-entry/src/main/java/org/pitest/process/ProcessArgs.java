@@ -21,6 +21,7 @@ import java.io.File;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 import org.pitest.classpath.ClassPath;
 import org.pitest.functional.SideEffect1;
@@ -36,6 +37,7 @@ public final class ProcessArgs {
   private String              javaExecutable;
   private Map<String, String> environmentVariables;
   private boolean             useClasspathJar = false;
+  private Optional<ClassDataSharing> classDataSharing = Optional.empty();
 
   private ProcessArgs(final String launchClassPath) {
     this.launchClassPath = launchClassPath;
@@ -114,9 +116,14 @@ public final class ProcessArgs {
     this.javaExecutable = launchOptions.getJavaExecutable();
     this.environmentVariables = launchOptions.getEnvironmentVariables();
     this.useClasspathJar = launchOptions.useClasspathJar();
+    this.classDataSharing = launchOptions.getClassDataSharing();
     return this;
   }
 
+  public Optional<ClassDataSharing> getClassDataSharing() {
+    return this.classDataSharing;
+  }
+
   public Map<String, String> getEnvironmentVariables() {
     return this.environmentVariables;
   }
@@ -8,6 +8,7 @@ import java.lang.management.ManagementFactory;
 import java.lang.management.RuntimeMXBean;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -23,6 +24,7 @@ public class WrappingProcess {
   private final Class<?>    minionClass;
 
   private JavaProcess       process;
+  private List<String>      sharingArgs = Collections.emptyList();
 
   public WrappingProcess(int port, ProcessArgs args, Class<?> minionClass) {
     this.port = port;
@@ -46,6 +48,8 @@ public class WrappingProcess {
         this.processArgs.getEnvironmentVariables());
 
     final Process process = processBuilder.start();
+    this.processArgs.getClassDataSharing()
+        .ifPresent(s -> s.started(this.sharingArgs, process));
     this.process = new JavaProcess(process, this.processArgs.getStdout(),
         this.processArgs.getStdErr());
   }
@@ -102,6 +106,9 @@ public class WrappingProcess {
 
     createClasspathJar(classPath, cmd);
 
+    addClassDataSharing(javaProcess, agentJarLocator, classPath, mainClass,
+        cmd);
+
     cmd.addAll(args);
 
     addPITJavaAgent(agentJarLocator, cmd);
@@ -125,6 +132,22 @@ public class WrappingProcess {
     }
   }
 
+  private void addClassDataSharing(String javaProcess,
+      JavaAgent agentJarLocator, String classPath, Class<?> mainClass,
+      List<String> cmd) {
+    // a classpath jar is created afresh for each minion, so no archive could
+    // ever be reused
+    if (this.processArgs.getClassDataSharing().isPresent()
+        && !this.processArgs.useClasspathJar()) {
+      // the agent jar is also on the classpath of the minion
+      final String sharedClassPath = agentJarLocator.getJarLocation()
+          .map(l -> classPath + File.pathSeparator + l).orElse(classPath);
+      this.sharingArgs = this.processArgs.getClassDataSharing().get()
+          .launchArgs(javaProcess, sharedClassPath, mainClass);
+      cmd.addAll(this.sharingArgs);
+    }
+  }
+
   private static void addPITJavaAgent(JavaAgent agentJarLocator,
       List<String> cmd) {
     final Optional<String> jarLocation = agentJarLocator.getJarLocation();
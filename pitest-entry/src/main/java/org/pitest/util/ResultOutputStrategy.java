@@ -14,10 +14,24 @@
  */
 package org.pitest.util;
 
+import java.io.OutputStream;
 import java.io.Writer;
+import java.util.Optional;
 
 public interface ResultOutputStrategy {
 
   Writer createWriterForFile(String sourceFile);
 
+  /**
+   * Creates a stream for binary output. Strategies that write to files should
+   * only make the content visible under the file's name once the stream is
+   * closed, so that an interrupted run does not leave a truncated file.
+   *
+   * @return the stream, or empty if the strategy writes only text, in which
+   *         case callers fall back to a text format
+   */
+  default Optional<OutputStream> createOutputStreamForFile(String file) {
+    return Optional.empty();
+  }
+
 }
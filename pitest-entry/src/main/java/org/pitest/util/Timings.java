@@ -40,6 +40,11 @@ public class Timings {
 
   private final Map<Stage, TimeSpan> timings = new LinkedHashMap<>();
 
+  // classes redefined by minions to insert mutants. This time is spent within
+  // the mutation analysis stage, so is not added to the total
+  private int                        redefinitions;
+  private long                       timeRedefining;
+
   public void registerStart(final Stage stage) {
     this.timings.put(stage, new TimeSpan(System.currentTimeMillis(), 0));
   }
@@ -49,7 +54,17 @@ public class Timings {
     this.timings.get(stage).setEnd(end);
   }
 
-  public void report(final PrintStream ps) {
+  /**
+   * Records classes redefined by a minion and the time it took to redefine
+   * them. Called by the threads receiving results from each minion.
+   */
+  public synchronized void registerRedefinitions(final int classes,
+      final long millis) {
+    this.redefinitions += classes;
+    this.timeRedefining += millis;
+  }
+
+  public synchronized void report(final PrintStream ps) {
     long total = 0;
     for (final Entry<Stage, TimeSpan> each : this.timings.entrySet()) {
       total = total + each.getValue().duration();
@@ -58,6 +73,12 @@ public class Timings {
     ps.println(StringUtil.separatorLine());
     ps.println("> Total " + " : " + new TimeSpan(0, total));
     ps.println(StringUtil.separatorLine());
+    if (this.redefinitions != 0) {
+      ps.println("> redefine " + this.redefinitions
+          + " mutated classes in minions : "
+          + new TimeSpan(0, this.timeRedefining));
+      ps.println(StringUtil.separatorLine());
+    }
   }
 
 }
@@ -31,6 +31,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Function;
 
@@ -142,6 +143,64 @@ public class CoverageDataTest {
         this.testee.getTestsForClass(this.foo), testInfoToString()));
   }
 
+  @Test
+  public void shouldReturnTestsForInstructionsWithinACoveredBlock() {
+    final BlockLocation block = new BlockLocation(Location.location(this.foo,
+        MethodName.fromString("foo"), "V"), 1, 3, 6);
+    this.testee.calculateClassCoverage(new CoverageResult(new Description(
+        "fooTest"), 0, true, Collections.singleton(block)));
+
+    assertEquals(Arrays.asList("fooTest"), FCollection.map(
+        this.testee.getTestsForInstructionLocation(new InstructionLocation(
+            block, 4)), testInfoToString()));
+    assertTrue(this.testee.getTestsForInstructionLocation(
+        new InstructionLocation(block, 7)).isEmpty());
+  }
+
+  @Test
+  public void shouldStoreEachTestOnceWhenItCoversManyBlocks() {
+    this.testee.calculateClassCoverage(new CoverageResult(new Description(
+        "fooTest"), 0, true, Arrays.asList(makeBlock("foo", 1),
+        makeBlock("foo", 2), makeBlock("bar", 1))));
+
+    assertThat(this.testee.getTestsForClass(this.foo).iterator().next())
+        .isSameAs(this.testee.getTestsForClass(this.bar).iterator().next());
+  }
+
+  @Test
+  public void shouldAcceptCoverageKeyedByInstruction() {
+    final BlockLocation block = makeBlock("foo", 1);
+    final TestInfo ti = new TestInfo("FooTest", "fooTest", 0,
+        Optional.empty(), 1);
+    final Map<InstructionLocation, Set<TestInfo>> coverage = new HashMap<>();
+    coverage.put(new InstructionLocation(block, -1), Collections.singleton(ti));
+
+    this.testee = new CoverageData(this.code, this.lm, coverage);
+
+    assertEquals(Arrays.asList(ti), this.testee.getTestsForClass(this.foo));
+  }
+
+  @Test
+  public void shouldIncludeTestsAddedAfterTestsForClassWereRead() {
+    this.testee.calculateClassCoverage(makeCoverageResult("foo", "fooTest", 0,
+        1));
+    this.testee.getTestsForClass(this.foo);
+    this.testee.calculateClassCoverage(makeCoverageResult("foo", "fooTest2", 0,
+        2));
+    assertEquals(Arrays.asList("fooTest", "fooTest2"), FCollection.map(
+        this.testee.getTestsForClass(this.foo), testInfoToString()));
+  }
+
+  @Test
+  public void shouldNotReturnTestsOfOtherClasses() {
+    this.testee.calculateClassCoverage(makeCoverageResult("foo", "fooTest", 0,
+        1));
+    this.testee.calculateClassCoverage(makeCoverageResult("bar", "barTest", 0,
+        1));
+    assertEquals(Arrays.asList("barTest"), FCollection.map(
+        this.testee.getTestsForClass(this.bar), testInfoToString()));
+  }
+
   @Test
   public void shouldReportAGreenSuiteWhenNoTestHasFailed() {
     this.testee.calculateClassCoverage(makeCoverageResult("foo", "fooTest", 42,
@@ -285,10 +344,12 @@ public class CoverageDataTest {
 
   private Collection<BlockLocation> makeCoverage(final String clazz,
       final int block) {
-    final BlockLocation cs = new BlockLocation(Location.location(
-        ClassName.fromString(clazz), MethodName.fromString("foo"), "V"), block, -1, -1);
+    return Collections.singleton(makeBlock(clazz, block));
+  }
 
-    return Collections.singleton(cs);
+  private static BlockLocation makeBlock(final String clazz, final int block) {
+    return new BlockLocation(Location.location(ClassName.fromString(clazz),
+        MethodName.fromString("foo"), "V"), block, -1, -1);
   }
 
   private HashMap<BlockLocation, Set<Integer>> makeCoverageMapForBlock(
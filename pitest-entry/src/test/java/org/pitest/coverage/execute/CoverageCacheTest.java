@@ -0,0 +1,231 @@
+package org.pitest.coverage.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassIdentifier;
+import org.pitest.classinfo.ClassInfoMother;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPath;
+import org.pitest.classpath.CodeSource;
+import org.pitest.classpath.ProjectClassPaths;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.process.LaunchOptions;
+import org.pitest.testapi.Description;
+
+public class CoverageCacheTest {
+
+  @Rule
+  public TemporaryFolder    folder   = new TemporaryFolder();
+
+  @Mock
+  private CodeSource        code;
+
+  @Mock
+  private ProjectClassPaths paths;
+
+  private final ClassName   fooTest  = ClassName.fromString("com.example.FooTest");
+  private final ClassName   foo      = ClassName.fromString("com.example.Foo");
+
+  private File              file;
+
+  private File              jar;
+
+  private CoverageCache     testee;
+
+  @Before
+  public void setUp() throws IOException {
+    MockitoAnnotations.initMocks(this);
+    when(this.code.getTests()).thenReturn(Collections.emptyList());
+    when(this.code.getProjectPaths()).thenReturn(this.paths);
+    when(this.paths.test()).thenReturn(Collections.emptyList());
+    when(this.code.getClassInfo(any())).thenReturn(Collections.emptyList());
+    setHash(this.fooTest, 1);
+    setHash(this.foo, 2);
+
+    this.jar = this.folder.newFile("dependency.jar");
+    writeJar("a");
+    when(this.code.getClassPath()).thenReturn(
+        new ClassPath(Collections.singletonList(this.jar)));
+
+    this.file = new File(this.folder.getRoot(), "coverage.bin");
+    this.testee = aCache(Collections.singletonList("com.example.*"),
+        Collections.<String> emptyList());
+  }
+
+  @Test
+  public void shouldReuseNothingWhenNoCoverageStored() {
+    assertThat(this.testee.read(this.code)).isEmpty();
+  }
+
+  @Test
+  public void shouldReadBackStoredCoverageWhenCodeUnchanged() {
+    final BlockLocation block = aBlock(this.foo);
+    this.testee.write(
+        Collections.singletonMap(this.fooTest, Collections.singletonList(
+            aResult("shouldFoo", true, block))), this.code);
+
+    final Map<ClassName, List<CoverageResult>> actual = this.testee
+        .read(this.code);
+    final CoverageResult result = actual.get(this.fooTest).get(0);
+    assertThat(result.getTestUnitDescription()).isEqualTo(
+        new Description("shouldFoo", this.fooTest.asJavaName()));
+    assertThat(result.getExecutionTime()).isEqualTo(42);
+    assertThat(result.getCoverage()).containsExactly(block);
+    assertThat(result.getCoverage().iterator().next().getLastInsnInBlock())
+        .isEqualTo(block.getLastInsnInBlock());
+  }
+
+  @Test
+  public void shouldNotReuseCoverageWhenCoveredClassChanged() {
+    this.testee.write(
+        Collections.singletonMap(this.fooTest, Collections.singletonList(
+            aResult("shouldFoo", true, aBlock(this.foo)))), this.code);
+
+    setHash(this.foo, 3);
+
+    assertThat(this.testee.read(this.code)).isEmpty();
+  }
+
+  @Test
+  public void shouldNotReuseCoverageWhenTestClassChanged() {
+    this.testee.write(
+        Collections.singletonMap(this.fooTest, Collections.singletonList(
+            aResult("shouldFoo", true, aBlock(this.foo)))), this.code);
+
+    setHash(this.fooTest, 3);
+
+    assertThat(this.testee.read(this.code)).isEmpty();
+  }
+
+  @Test
+  public void shouldNotStoreTestClassesWithFailingTests() {
+    this.testee.write(
+        Collections.singletonMap(this.fooTest, Collections.singletonList(
+            aResult("shouldFoo", false, aBlock(this.foo)))), this.code);
+
+    assertThat(this.testee.read(this.code)).isEmpty();
+  }
+
+  @Test
+  public void shouldReuseTestClassesWithNoTests() {
+    this.testee.write(Collections.singletonMap(this.fooTest,
+        Collections.<CoverageResult> emptyList()), this.code);
+
+    assertThat(this.testee.read(this.code).get(this.fooTest)).isEmpty();
+  }
+
+  @Test
+  public void shouldNotReuseCoverageWhenCoverageOptionsChanged() {
+    storeCoverageOfFooTest();
+
+    final CoverageCache changed = aCache(
+        Collections.singletonList("com.example.*"),
+        Collections.singletonList("com.example.Foo"));
+
+    assertThat(changed.read(this.code)).isEmpty();
+  }
+
+  @Test
+  public void shouldNotReuseCoverageWhenJvmArgsChanged() {
+    storeCoverageOfFooTest();
+
+    final CoverageCache changed = new CoverageCache(this.file,
+        aCoverageOptions(Collections.singletonList("com.example.*"),
+            Collections.<String> emptyList()),
+        aLaunchOptions(Collections.singletonList("-Dfoo=bar")));
+
+    assertThat(changed.read(this.code)).isEmpty();
+  }
+
+  @Test
+  public void shouldNotReuseCoverageWhenArchiveOnClassPathChanged()
+      throws IOException {
+    storeCoverageOfFooTest();
+
+    writeJar("abcdef");
+
+    assertThat(this.testee.read(this.code)).isEmpty();
+  }
+
+  @Test
+  public void shouldNotReuseCoverageWhenCodeClassAdded() {
+    storeCoverageOfFooTest();
+
+    when(this.code.getCodeUnderTestNames()).thenReturn(
+        Collections.singleton(ClassName.fromString("com.example.Bar")));
+
+    assertThat(this.testee.read(this.code)).isEmpty();
+  }
+
+  private void storeCoverageOfFooTest() {
+    this.testee.write(
+        Collections.singletonMap(this.fooTest, Collections.singletonList(
+            aResult("shouldFoo", true, aBlock(this.foo)))), this.code);
+    assertThat(this.testee.read(this.code)).containsKey(this.fooTest);
+  }
+
+  private CoverageCache aCache(final List<String> include,
+      final List<String> exclude) {
+    return new CoverageCache(this.file, aCoverageOptions(include, exclude),
+        aLaunchOptions(Collections.<String> emptyList()));
+  }
+
+  private static CoverageOptions aCoverageOptions(final List<String> include,
+      final List<String> exclude) {
+    return new CoverageOptions(include, exclude, TestPluginArguments.defaults(),
+        false, 0);
+  }
+
+  private static LaunchOptions aLaunchOptions(final List<String> jvmArgs) {
+    return new LaunchOptions(null, () -> "java", jvmArgs,
+        new HashMap<String, String>());
+  }
+
+  private void writeJar(final String entryName) throws IOException {
+    try (ZipOutputStream out = new ZipOutputStream(
+        new FileOutputStream(this.jar))) {
+      out.putNextEntry(new ZipEntry(entryName));
+      out.closeEntry();
+    }
+  }
+
+  private void setHash(final ClassName clazz, final long hash) {
+    when(this.code.fetchClass(clazz)).thenReturn(
+        Optional.of(ClassInfoMother.make(new ClassIdentifier(hash, clazz))));
+  }
+
+  private BlockLocation aBlock(final ClassName clazz) {
+    return new BlockLocation(Location.location(clazz,
+        MethodName.fromString("foo"), "()V"), 1, 3, 7);
+  }
+
+  private CoverageResult aResult(final String name, final boolean green,
+      final BlockLocation block) {
+    return new CoverageResult(new Description(name, this.fooTest.asJavaName()),
+        42, green, Collections.singletonList(block));
+  }
+
+}
@@ -2,6 +2,7 @@ package org.pitest.coverage.execute;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.mockito.Mockito.when;
 
 import org.junit.Before;
@@ -12,10 +13,9 @@ import org.pitest.coverage.CoverageResult;
 import org.pitest.functional.SideEffect1;
 import org.pitest.testapi.Description;
 import org.pitest.util.Id;
+import org.pitest.util.PitError;
 import org.pitest.util.SafeDataInputStream;
 
-import sun.pitest.CodeCoverageStore;
-
 // does this test add any value?
 public class ReceiveTest {
 
@@ -60,17 +60,42 @@ public class ReceiveTest {
     assertEquals(true, this.result.isGreenTest());
   }
 
+  @Test
+  public void shouldReadDescriptionOfNewTest() {
+    recordTestCoverage(0, 0, 0, true);
+    assertEquals(this.description, this.result.getTestUnitDescription());
+  }
+
+  @Test
+  public void shouldReuseDescriptionWhenTestIdIsRepeated() {
+    recordTestCoverage(0, 0, 0, true);
+    final Description first = this.result.getTestUnitDescription();
+
+    when(this.is.readVarInt()).thenReturn(0, 0);
+    when(this.is.readBoolean()).thenReturn(true);
+    this.testee.apply(Id.OUTCOME, this.is);
+
+    assertSame(first, this.result.getTestUnitDescription());
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldRejectUnknownFormat() {
+    when(this.is.readInt()).thenReturn(CoveragePipe.FORMAT_VERSION + 1);
+    this.testee.apply(Id.FORMAT, this.is);
+  }
+
   private void recordTestCoverage(final int executionTime, final int classId,
       final int probeNumber, final boolean testPassed) {
     when(this.is.readInt()).thenReturn(classId, executionTime);
     when(this.is.readString()).thenReturn("foo");
     this.testee.apply(Id.CLAZZ, this.is);
 
-    when(this.is.read(Description.class)).thenReturn(this.description);
-    when(this.is.readInt()).thenReturn(1);
-    when(this.is.readLong()).thenReturn(1l,
-        CodeCoverageStore.encode(classId, probeNumber));
-    when(this.is.readBoolean()).thenReturn(testPassed);
+    // new test 0, one class hit, one probe hit within it
+    when(this.is.readVarInt()).thenReturn(0, 1, classId, 1, probeNumber);
+    when(this.is.readBoolean()).thenReturn(true, testPassed);
+    when(this.is.readString()).thenReturn(
+        this.description.getFirstTestClass(), this.description.getName());
+    when(this.is.readInt()).thenReturn(executionTime);
     this.testee.apply(Id.OUTCOME, this.is);
   }
 
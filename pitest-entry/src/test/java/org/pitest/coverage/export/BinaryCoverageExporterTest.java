@@ -0,0 +1,137 @@
+package org.pitest.coverage.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.coverage.CoverageMother.aBlockLocation;
+import static org.pitest.coverage.CoverageMother.aCoverageResult;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageMother.BlockLocationBuilder;
+import org.pitest.mutationtest.LocationMother.LocationBuilder;
+import org.pitest.testapi.Description;
+import org.pitest.util.ResultOutputStrategy;
+
+public class BinaryCoverageExporterTest {
+
+  private BinaryCoverageExporter      testee;
+
+  private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+  private final LocationBuilder       loc = aLocation().withMethod("method");
+
+  private final BlockLocationBuilder  block = aBlockLocation().withBlock(42);
+
+  @Before
+  public void setup() {
+    this.testee = new BinaryCoverageExporter(createOutputStrategy());
+  }
+
+  private ResultOutputStrategy createOutputStrategy() {
+    return new ResultOutputStrategy() {
+      @Override
+      public Writer createWriterForFile(final String sourceFile) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public Optional<OutputStream> createOutputStreamForFile(
+          final String file) {
+        return Optional.of(BinaryCoverageExporterTest.this.out);
+      }
+    };
+  }
+
+  @Test
+  public void shouldWriteReadableFileWhenNoCoverage() {
+    this.testee.recordCoverage(Collections.<BlockCoverage> emptyList());
+    assertThat(readBack()).isEmpty();
+  }
+
+  @Test
+  public void shouldReadBackCoverageRecordedForEachTest() {
+    final BlockLocation foo = this.block.withLocation(
+        this.loc.withClass(ClassName.fromString("Foo"))).build();
+    final BlockLocation bar = this.block.withLocation(
+        this.loc.withClass(ClassName.fromString("Bar"))).build();
+
+    this.testee.recordTest(aCoverageResult()
+        .withTestUnitDescription(new Description("test2", "FooTest"))
+        .withVisitedBlocks(Arrays.asList(foo, bar)).build());
+    this.testee.recordTest(aCoverageResult()
+        .withTestUnitDescription(new Description("test1", "FooTest"))
+        .withVisitedBlocks(Arrays.asList(foo)).build());
+    this.testee.recordCoverage(Collections.<BlockCoverage> emptyList());
+
+    final Map<BlockLocation, Collection<String>> actual = readBack();
+    assertThat(actual.get(foo)).containsExactly("FooTest.test1",
+        "FooTest.test2");
+    assertThat(actual.get(bar)).containsExactly("FooTest.test2");
+  }
+
+  @Test
+  public void shouldPreserveInstructionRangeOfBlocks() {
+    final BlockLocation foo = new BlockLocation(this.loc.build(), 3, 7, 11);
+    this.testee.recordCoverage(Collections.singletonList(new BlockCoverage(
+        foo, Arrays.asList("Test1"))));
+
+    final BlockLocation actual = readBack().keySet().iterator().next();
+    assertThat(actual).isEqualTo(foo);
+    assertThat(actual.getFirstInsnInBlock()).isEqualTo(7);
+    assertThat(actual.getLastInsnInBlock()).isEqualTo(11);
+  }
+
+  @Test
+  public void shouldExportSuppliedBlockCoverage() {
+    final BlockLocation foo = this.block.withLocation(
+        this.loc.withClass(ClassName.fromString("Foo"))).build();
+    this.testee.recordCoverage(Collections.singletonList(new BlockCoverage(
+        foo, Arrays.asList("Test2", "Test1"))));
+
+    assertThat(readBack().get(foo)).containsExactly("Test1", "Test2");
+  }
+
+  @Test
+  public void shouldExportXmlWhenStrategyCannotWriteBinary() {
+    final StringWriter xml = new StringWriter();
+    final BinaryCoverageExporter testee = new BinaryCoverageExporter(
+        sourceFile -> xml);
+    final BlockLocation foo = this.block.withLocation(
+        this.loc.withClass(ClassName.fromString("Foo"))).build();
+
+    testee.recordTest(aCoverageResult()
+        .withTestUnitDescription(new Description("test1", "FooTest"))
+        .withVisitedBlocks(Arrays.asList(foo)).build());
+    testee.recordCoverage(Collections.singletonList(new BlockCoverage(
+        foo, Arrays.asList("Test1"))));
+
+    assertThat(xml.toString()).contains("<coverage>");
+    assertThat(xml.toString()).contains("Test1");
+    assertThat(this.out.toByteArray()).isEmpty();
+  }
+
+  private Map<BlockLocation, Collection<String>> readBack() {
+    final Map<BlockLocation, Collection<String>> actual = new HashMap<>();
+    for (final BlockCoverage each : BinaryCoverageReader
+        .read(new ByteArrayInputStream(this.out.toByteArray()))) {
+      actual.put(each.getBlock(), each.getTests());
+    }
+    return actual;
+  }
+
+}
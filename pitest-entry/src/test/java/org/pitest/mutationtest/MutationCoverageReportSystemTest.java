@@ -87,6 +87,43 @@ public class MutationCoverageReportSystemTest extends ReportTestBase {
     verifyResults(KILLED);
   }
 
+  @Test
+  public void shouldGatherCoverageAcrossMultipleMinions() {
+    this.data.setNumberOfThreads(2);
+    this.data.setTargetClasses(asList("com.example.FullyCovered*",
+        "com.example.CoveredButOnlyPartiallyTested*"));
+    createAndRun();
+    verifyResults(KILLED, KILLED, SURVIVED);
+  }
+
+  @Test
+  public void shouldAnalyseMutationsInReusedMinions() {
+    this.data.setMinionReuseLimit(100);
+    this.data.setMutationUnitSize(1);
+    this.data.setTargetClasses(asList("com.example.FullyCovered*",
+        "com.example.CoveredButOnlyPartiallyTested*"));
+    createAndRun();
+    verifyResults(KILLED, KILLED, SURVIVED);
+  }
+
+  @Test
+  public void shouldAnalyseMutantsGeneratedInMainProcess() {
+    this.data.setGenerateMutantsInParent(true);
+    this.data.setTargetClasses(asList("com.example.FullyCovered*",
+        "com.example.CoveredButOnlyPartiallyTested*"));
+    createAndRun();
+    verifyResults(KILLED, KILLED, SURVIVED);
+  }
+
+  @Test
+  public void shouldAnalyseMutantsUsingMutantSchemata() {
+    this.data.setMutantSchemata(true);
+    this.data.setTargetClasses(asList("com.example.FullyCovered*",
+        "com.example.CoveredButOnlyPartiallyTested*"));
+    createAndRun();
+    verifyResults(KILLED, KILLED, SURVIVED);
+  }
+
   @Test
   public void shouldReportUnCoveredMutations() {
     this.data.setTargetClasses(asList("com.example.PartiallyCovered*"));
@@ -117,7 +117,8 @@ public abstract class ReportTestBase {
 
       final CoverageGenerator coverageDatabase = new DefaultCoverageGenerator(
           null, coverageOptions, launchOptions, code,
-          new NullCoverageExporter(), timings, false);
+          new NullCoverageExporter(), timings, false,
+          this.data.getNumberOfThreads());
 
       final HistoryStore history = new NullHistoryStore();
 
@@ -4,10 +4,13 @@ import static org.junit.Assert.assertEquals;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Test;
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
 import org.pitest.mutationtest.LocationMother;
 import org.pitest.mutationtest.LocationMother.LocationBuilder;
 import org.pitest.mutationtest.engine.MutationDetails;
@@ -38,6 +41,28 @@ public class DefaultGrouperTest {
     assertEquals(3, actual.size());
   }
 
+  @Test
+  public void shouldSplitClassesCostingMoreThanAnEvenShareOfWorkAcrossThreads() {
+    this.testee = new DefaultGrouper(0, 2);
+    final List<List<MutationDetails>> actual = this.testee.groupMutations(
+        Arrays.asList(ClassName.fromString("foo"), ClassName.fromString("bar")),
+        Arrays.asList(createDetails("foo", 100), createDetails("foo", 100),
+            createDetails("foo", 100), createDetails("bar", 100)));
+
+    assertEquals(3, actual.size());
+  }
+
+  @Test
+  public void shouldNotSplitClassesByCostWhenRunningSingleThreaded() {
+    this.testee = new DefaultGrouper(0, 1);
+    final List<List<MutationDetails>> actual = this.testee.groupMutations(
+        Arrays.asList(ClassName.fromString("foo"), ClassName.fromString("bar")),
+        Arrays.asList(createDetails("foo", 100), createDetails("foo", 100),
+            createDetails("foo", 100), createDetails("bar", 100)));
+
+    assertEquals(2, actual.size());
+  }
+
   private void assertCreatesOneUnitForTwoMutations() {
     final MutationDetails mutation1 = createDetails("foo");
     final MutationDetails mutation2 = createDetails("foo");
@@ -57,4 +82,12 @@ public class DefaultGrouperTest {
         "desc", 42, 0);
   }
 
+  private static MutationDetails createDetails(final String clazz,
+      final int testTime) {
+    final MutationDetails details = createDetails(clazz);
+    details.addTestsInOrder(Collections.singletonList(new TestInfo(clazz
+        + "Test", "aTest", testTime, Optional.<ClassName> empty(), 1)));
+    return details;
+  }
+
 }
@@ -0,0 +1,95 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class MutantCacheTest {
+
+  private MutantCache testee;
+
+  @Mock
+  private Mutater     generator;
+
+  @Mock
+  private Mutater     interceptorMutater;
+
+  private final MutationDetails a = aMutationDetail()
+      .withId(aMutationId().withIndex(1)).build();
+  private final MutationDetails b = aMutationDetail()
+      .withId(aMutationId().withIndex(2)).build();
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    when(this.interceptorMutater.getMutation(this.a.getId()))
+        .thenReturn(new Mutant(this.a, new byte[] { 1 }));
+    final Mutant mutantA = new Mutant(this.a, new byte[] { 1 });
+    final Mutant mutantB = new Mutant(this.b, new byte[] { 2, 2 });
+    when(this.generator.getMutations(Arrays.asList(this.a.getId())))
+        .thenReturn(Arrays.asList(mutantA));
+    when(this.generator.getMutations(
+        Arrays.asList(this.a.getId(), this.b.getId())))
+        .thenReturn(Arrays.asList(mutantA, mutantB));
+    this.testee = new MutantCache(() -> this.generator);
+  }
+
+  @Test
+  public void shouldGenerateEachMutantOnceWhenRequestedByWrappedMutater() {
+    final Mutater wrapped = this.testee.wrap(this.interceptorMutater);
+    wrapped.getMutation(this.a.getId());
+    wrapped.getMutation(this.a.getId());
+    verify(this.interceptorMutater, times(1)).getMutation(this.a.getId());
+  }
+
+  @Test
+  public void shouldReuseMutantsGeneratedForInterceptorsWhenSupplyingBytes() {
+    this.testee.wrap(this.interceptorMutater).getMutation(this.a.getId());
+    final Map<MutationIdentifier, byte[]> actual = this.testee
+        .getBytes(Arrays.asList(this.a));
+    assertThat(actual.get(this.a.getId())).containsExactly(1);
+    verifyZeroInteractions(this.generator);
+  }
+
+  @Test
+  public void shouldGenerateBytesForMutantsNotHeld() {
+    final Map<MutationIdentifier, byte[]> actual = this.testee
+        .getBytes(Arrays.asList(this.a, this.b));
+    assertThat(actual.get(this.b.getId())).containsExactly(2, 2);
+    assertThat(actual).hasSize(2);
+  }
+
+  @Test
+  public void shouldGenerateMutantsNotHeldInSingleBatch() {
+    this.testee.getBytes(Arrays.asList(this.a, this.b));
+    verify(this.generator, times(1))
+        .getMutations(Arrays.asList(this.a.getId(), this.b.getId()));
+  }
+
+  @Test
+  public void shouldDiscardLeastRecentlyUsedMutantsWhenFull() {
+    this.testee = new MutantCache(() -> this.generator, 2);
+    this.testee.getBytes(Arrays.asList(this.a, this.b));
+    assertThat(this.testee.size()).isEqualTo(1);
+    this.testee.getBytes(Arrays.asList(this.a));
+    verify(this.generator, times(1))
+        .getMutations(Arrays.asList(this.a.getId()));
+  }
+
+}
@@ -4,14 +4,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.MutationConfig;
@@ -78,6 +81,17 @@ public class MutationTestUnitTest {
     assertThat(this.testee.priority()).isEqualTo(42);
   }
 
+  @Test
+  public void shouldReportPriorityBasedOnTimeOfCoveringTests() {
+    final List<MutationDetails> ms = MutationDetailsMother.aMutationDetail()
+        .withTestsInOrder(Arrays.asList(
+            new TestInfo("FooTest", "a", 100, Optional.<ClassName> empty(), 1),
+            new TestInfo("FooTest", "b", 20, Optional.<ClassName> empty(), 1)))
+        .build(2);
+    this.testee = new MutationTestUnit(ms, this.tests, null);
+    assertThat(this.testee.priority()).isEqualTo(240);
+  }
+
   private void addMutation() {
     this.mutations.add(new MutationDetails(aMutationId().build(), "file", "desc",
         0, 0));
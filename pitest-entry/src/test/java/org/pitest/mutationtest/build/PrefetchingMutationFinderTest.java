@@ -0,0 +1,84 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationDetailsMother;
+
+public class PrefetchingMutationFinderTest {
+
+  private PrefetchingMutationFinder testee;
+
+  @Mock
+  private MutationFinder            child;
+
+  private final ClassName           foo = ClassName.fromString("com.example.Foo");
+  private final ClassName           bar = ClassName.fromString("com.example.Bar");
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    this.testee = new PrefetchingMutationFinder(this.child);
+  }
+
+  @After
+  public void tearDown() {
+    this.testee.shutdown();
+  }
+
+  @Test
+  public void shouldReturnMutationsFoundInBackground() {
+    final List<MutationDetails> mutations = MutationDetailsMother
+        .aMutationDetail().build(2);
+    when(this.child.findMutations(this.foo)).thenReturn(mutations);
+
+    this.testee.prefetch(Collections.singletonList(this.foo));
+
+    assertThat(this.testee.findMutations(this.foo)).isEqualTo(mutations);
+  }
+
+  @Test
+  public void shouldFindMutationsForClassesNotPrefetched() {
+    final List<MutationDetails> mutations = MutationDetailsMother
+        .aMutationDetail().build(1);
+    when(this.child.findMutations(this.bar)).thenReturn(mutations);
+
+    this.testee.prefetch(Collections.singletonList(this.foo));
+
+    assertThat(this.testee.findMutations(this.bar)).isEqualTo(mutations);
+  }
+
+  @Test
+  public void shouldFindMutationsForEachClassOnce() {
+    this.testee.prefetch(Arrays.asList(this.foo, this.bar, this.foo));
+
+    this.testee.findMutations(this.foo);
+    this.testee.findMutations(this.bar);
+
+    verify(this.child, times(1)).findMutations(this.foo);
+    verify(this.child, times(1)).findMutations(this.bar);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void shouldRethrowErrorsFromBackgroundThread() {
+    when(this.child.findMutations(this.foo)).thenThrow(
+        new IllegalStateException());
+    this.testee.prefetch(Collections.singletonList(this.foo));
+
+    this.testee.findMutations(this.foo);
+  }
+
+}
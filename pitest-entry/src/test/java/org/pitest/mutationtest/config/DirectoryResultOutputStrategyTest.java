@@ -0,0 +1,58 @@
+package org.pitest.mutationtest.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class DirectoryResultOutputStrategyTest {
+
+  @Rule
+  public TemporaryFolder                folder = new TemporaryFolder();
+
+  private DirectoryResultOutputStrategy testee;
+
+  @Before
+  public void setUp() {
+    this.testee = new DirectoryResultOutputStrategy(
+        this.folder.getRoot().getAbsolutePath(),
+        new UndatedReportDirCreationStrategy());
+  }
+
+  @Test
+  public void shouldOnlyWriteBinaryFileUnderItsNameOnceClosed()
+      throws IOException {
+    final File target = new File(this.folder.getRoot(), "foo.bin");
+    final OutputStream out = this.testee.createOutputStreamForFile("foo.bin")
+        .get();
+    out.write(new byte[] { 1, 2, 3 });
+    out.flush();
+    assertThat(target).doesNotExist();
+
+    out.close();
+    assertThat(Files.readAllBytes(target.toPath())).isEqualTo(new byte[] { 1, 2, 3 });
+    assertThat(new File(this.folder.getRoot(), "foo.bin.tmp")).doesNotExist();
+  }
+
+  @Test
+  public void shouldReplaceExistingBinaryFileWhenClosed() throws IOException {
+    try (OutputStream out = this.testee.createOutputStreamForFile("foo.bin")
+        .get()) {
+      out.write(1);
+    }
+    try (OutputStream out = this.testee.createOutputStreamForFile("foo.bin")
+        .get()) {
+      out.write(2);
+    }
+    assertThat(Files.readAllBytes(new File(this.folder.getRoot(), "foo.bin")
+        .toPath())).isEqualTo(new byte[] { 2 });
+  }
+
+}
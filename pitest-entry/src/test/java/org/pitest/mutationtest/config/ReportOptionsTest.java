@@ -15,9 +15,14 @@
 package org.pitest.mutationtest.config;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.Collections;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.pitest.classpath.ClassPath;
 
 public class ReportOptionsTest {
   private ReportOptions testee;
@@ -32,4 +37,18 @@ public class ReportOptionsTest {
     assertFalse(this.testee.shouldExportLineCoverage());
   }
 
+  @Test
+  public void shouldShareClassPathBetweenCallers() {
+    this.testee.setClassPathElements(Collections.singletonList("foo.jar"));
+    assertSame(this.testee.getClassPath(), this.testee.getClassPath());
+  }
+
+  @Test
+  public void shouldCreateNewClassPathWhenElementsChange() {
+    this.testee.setClassPathElements(Collections.singletonList("foo.jar"));
+    final ClassPath first = this.testee.getClassPath();
+    this.testee.setClassPathElements(Collections.singletonList("bar.jar"));
+    assertNotSame(first, this.testee.getClassPath());
+  }
+
 }
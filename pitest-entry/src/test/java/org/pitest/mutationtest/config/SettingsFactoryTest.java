@@ -12,9 +12,12 @@ import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
 import org.pitest.coverage.execute.CoverageOptions;
+import org.pitest.coverage.export.BinaryCoverageExporter;
 import org.pitest.coverage.export.NullCoverageExporter;
 import org.pitest.functional.SideEffect1;
 import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
@@ -24,6 +27,9 @@ import org.pitest.util.PitError;
 
 public class SettingsFactoryTest {
 
+  @Rule
+  public TemporaryFolder       folder  = new TemporaryFolder();
+
   private final ReportOptions  options = new ReportOptions();
 
   private final PluginServices plugins = PluginServices.makeForContextLoader();
@@ -42,6 +48,14 @@ public class SettingsFactoryTest {
     assertTrue(this.testee.createCoverageExporter() instanceof NullCoverageExporter);
   }
 
+  @Test
+  public void shouldReturnABinaryCoverageExporterWhenBinaryFormatRequested() {
+    this.options.setReportDir(this.folder.getRoot().getAbsolutePath());
+    this.options.setExportLineCoverage(true);
+    this.options.setBinaryLineCoverage(true);
+    assertTrue(this.testee.createCoverageExporter() instanceof BinaryCoverageExporter);
+  }
+
   @Test
   public void shouldReturnEngineWhenRequestedEngineIsKnown() {
     assertTrue(this.testee.createEngine() instanceof GregorEngineFactory);
@@ -0,0 +1,80 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.util.ExitCode;
+
+public class MinionPoolTest {
+
+  private MinionPool   testee;
+
+  @Mock
+  private PooledMinion minion;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    this.testee = new MinionPool(10);
+    when(this.minion.isAlive()).thenReturn(true);
+  }
+
+  @Test
+  public void shouldBeDisabledWhenReuseLimitIsZero() {
+    assertThat(MinionPool.disabled().isEnabled()).isFalse();
+  }
+
+  @Test
+  public void shouldBeEnabledWhenReuseLimitIsPositive() {
+    assertThat(this.testee.isEnabled()).isTrue();
+  }
+
+  @Test
+  public void shouldReuseMinionThatExitedCleanlyBelowLimit() {
+    when(this.minion.mutationsAnalysed()).thenReturn(9);
+    this.testee.release(this.minion, ExitCode.OK);
+    assertThat(this.testee.acquire(null)).isSameAs(this.minion);
+    verify(this.minion, never()).shutdown();
+  }
+
+  @Test
+  public void shouldRetireMinionOnceReuseLimitReached() {
+    when(this.minion.mutationsAnalysed()).thenReturn(10);
+    this.testee.release(this.minion, ExitCode.OK);
+    verify(this.minion).shutdown();
+  }
+
+  @Test
+  public void shouldRetireMinionThatTimedOut() {
+    this.testee.release(this.minion, ExitCode.TIMEOUT);
+    verify(this.minion).shutdown();
+  }
+
+  @Test
+  public void shouldRetireMinionThatRanOutOfMemory() {
+    this.testee.release(this.minion, ExitCode.OUT_OF_MEMORY);
+    verify(this.minion).shutdown();
+  }
+
+  @Test
+  public void shouldNotHandOutIdleMinionThatHasDied() {
+    this.testee.release(this.minion, ExitCode.OK);
+    when(this.minion.isAlive()).thenReturn(false);
+    assertThat(this.testee.acquire(null)).isNotSameAs(this.minion);
+    verify(this.minion).shutdown();
+  }
+
+  @Test
+  public void shouldShutDownIdleMinions() {
+    this.testee.release(this.minion, ExitCode.OK);
+    this.testee.shutdown();
+    verify(this.minion).shutdown();
+  }
+
+}
@@ -0,0 +1,113 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.AdaptiveTimeoutStrategy;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Id;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.Timings;
+
+public class MutationTestReceiveTest {
+
+  private final MutationIdentifier                              foo   = aMutationId()
+      .withIndex(0).withMutator("foo").build();
+  private final MutationIdentifier                              bar   = aMutationId()
+      .withIndex(1).withMutator("bar").build();
+  private final List<MutationDetails>                           batch = Arrays
+      .asList(aMutationDetail().withId(this.foo).build(),
+          aMutationDetail().withId(this.bar).build());
+
+  private final Map<MutationIdentifier, MutationStatusTestPair> idMap = new HashMap<>();
+
+  private final AdaptiveTimeoutStrategy                          timeoutStrategy = new AdaptiveTimeoutStrategy(
+      1, 0);
+
+  private final Timings                                         timings = new Timings();
+
+  private ByteArrayOutputStream                                 os;
+  private DefaultReporter                                       reporter;
+
+  @Before
+  public void setUp() {
+    this.os = new ByteArrayOutputStream();
+    this.reporter = new DefaultReporter(this.os);
+    this.reporter.startBatch(this.batch);
+  }
+
+  @Test
+  public void shouldMarkDescribedMutationAsStarted() throws IOException {
+    this.reporter.describe(this.bar);
+    receiveAll();
+    assertThat(this.idMap.get(this.bar).getStatus()).isEqualTo(
+        DetectionStatus.STARTED);
+    assertThat(this.idMap).doesNotContainKey(this.foo);
+  }
+
+  @Test
+  public void shouldReadBackReportedStatuses() throws IOException {
+    final MutationStatusTestPair killed = new MutationStatusTestPair(3,
+        DetectionStatus.KILLED, Arrays.asList("a", "b"), Arrays.asList("c"));
+    final MutationStatusTestPair survived = new MutationStatusTestPair(2,
+        DetectionStatus.SURVIVED, Arrays.<String> asList(), Arrays.asList(
+            "c", "a"));
+    this.reporter.describe(this.foo);
+    this.reporter.report(this.foo, killed);
+    this.reporter.describe(this.bar);
+    this.reporter.report(this.bar, survived);
+    receiveAll();
+    assertThat(this.idMap.get(this.foo)).isEqualTo(killed);
+    assertThat(this.idMap.get(this.bar)).isEqualTo(survived);
+  }
+
+  @Test
+  public void shouldPassRecordedDurationsToTimeoutStrategy() {
+    this.reporter.recordDurations(Collections.singletonMap("a", 42L));
+    receiveAll();
+    assertThat(this.timeoutStrategy.getAllowedTime("a", 1000)).isLessThan(
+        1000);
+  }
+
+  @Test
+  public void shouldAddRecordedRedefinitionsToTimings() {
+    this.reporter.recordRedefinitions(12, 3456);
+    this.reporter.recordRedefinitions(3, 1000);
+    receiveAll();
+    final ByteArrayOutputStream report = new ByteArrayOutputStream();
+    this.timings.report(new PrintStream(report));
+    assertThat(report.toString()).contains(
+        "> redefine 15 mutated classes in minions : 4 seconds");
+  }
+
+  private void receiveAll() {
+    this.reporter.done(ExitCode.OK);
+    final SafeDataInputStream is = new SafeDataInputStream(
+        new ByteArrayInputStream(this.os.toByteArray()));
+    final MutationTestCommunicationThread.Receive receive = new MutationTestCommunicationThread.Receive(
+        this.batch, this.idMap, this.timeoutStrategy, this.timings);
+    byte control = is.readByte();
+    while (control != Id.DONE) {
+      receive.apply(control, is);
+      control = is.readByte();
+    }
+  }
+
+}
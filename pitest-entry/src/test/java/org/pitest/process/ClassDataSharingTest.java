@@ -0,0 +1,120 @@
+package org.pitest.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ClassDataSharingTest {
+
+  @Rule
+  public TemporaryFolder   folder = new TemporaryFolder();
+
+  private File             directory;
+  private String           classPath;
+  private ClassDataSharing testee;
+
+  @Before
+  public void setUp() throws IOException {
+    this.directory = new File(this.folder.getRoot(), "cds");
+    this.classPath = this.folder.newFile("foo.jar").getAbsolutePath();
+    this.testee = new ClassDataSharing(this.directory, java -> 17);
+  }
+
+  @Test
+  public void shouldDumpArchiveOnFirstLaunch() {
+    assertThat(launch()).anyMatch(a -> a.startsWith("-XX:ArchiveClassesAtExit="));
+  }
+
+  @Test
+  public void shouldNotShareClassDataWhileArchiveIsBeingDumped() {
+    this.testee.started(launch(), minion(true));
+    assertThat(launch()).isEmpty();
+  }
+
+  @Test
+  public void shouldMapArchiveOnceDumpingMinionHasExited() throws IOException {
+    final List<String> first = launch();
+    this.testee.started(first, minion(false));
+    dumpedFile(first).createNewFile();
+
+    assertThat(launch()).anyMatch(a -> a.startsWith("-XX:SharedArchiveFile="));
+  }
+
+  @Test
+  public void shouldDumpAgainWhenDumpingMinionExitedWithoutArchive() {
+    this.testee.started(launch(), minion(false));
+    assertThat(launch()).anyMatch(a -> a.startsWith("-XX:ArchiveClassesAtExit="));
+  }
+
+  @Test
+  public void shouldNotDumpAgainWhenSecondDumpFails() {
+    this.testee.started(launch(), minion(false));
+    this.testee.started(launch(), minion(false));
+    assertThat(launch()).isEmpty();
+    assertThat(launch()).isEmpty();
+  }
+
+  @Test
+  public void shouldNotShareClassDataWhenClassPathHasNonEmptyDirectory()
+      throws IOException {
+    final File classes = this.folder.newFolder("classes");
+    new File(classes, "Foo.class").createNewFile();
+    this.classPath = this.classPath + File.pathSeparator
+        + classes.getAbsolutePath();
+
+    assertThat(launch()).isEmpty();
+  }
+
+  @Test
+  public void shouldShareClassDataWhenClassPathHasEmptyDirectory()
+      throws IOException {
+    this.classPath = this.classPath + File.pathSeparator
+        + this.folder.newFolder("empty").getAbsolutePath();
+
+    assertThat(launch()).anyMatch(a -> a.startsWith("-XX:ArchiveClassesAtExit="));
+  }
+
+  @Test
+  public void shouldNotShareClassDataBeforeJava13() {
+    this.testee = new ClassDataSharing(this.directory, java -> 11);
+    assertThat(launch()).isEmpty();
+  }
+
+  @Test
+  public void shouldUseNewArchiveWhenClassPathChanges() throws IOException {
+    final List<String> first = launch();
+    this.testee.started(first, minion(false));
+    dumpedFile(first).createNewFile();
+
+    new File(this.classPath).setLastModified(1000);
+
+    assertThat(launch()).anyMatch(a -> a.startsWith("-XX:ArchiveClassesAtExit="));
+  }
+
+  private List<String> launch() {
+    return this.testee.launchArgs("java", this.classPath,
+        ClassDataSharingTest.class);
+  }
+
+  private static File dumpedFile(final List<String> args) {
+    final String prefix = "-XX:ArchiveClassesAtExit=";
+    return new File(args.stream().filter(a -> a.startsWith(prefix))
+        .findFirst().get().substring(prefix.length()));
+  }
+
+  private static Process minion(final boolean alive) {
+    final Process p = mock(Process.class);
+    when(p.isAlive()).thenReturn(alive);
+    return p;
+  }
+
+}
@@ -102,6 +102,31 @@ public class AbstractPitMojo extends AbstractMojo {
    */
   @Parameter(property = "historyInputFile")
   private File                        historyInputFile;
+
+  /**
+   * Directory in which to store indexes of the classes held by jars on the
+   * classpath, so that jars that have not changed are not rescanned by later
+   * runs
+   */
+  @Parameter(property = "classPathIndexCache")
+  private File                        classPathIndexCache;
+
+  /**
+   * Directory in which to store archives of the classes loaded by minions, so
+   * that later minions start faster. Requires Java 13 or later, and only
+   * takes effect when the classpath has no non-empty directories, such as
+   * target/classes, because the JVM cannot archive classes for such a
+   * classpath
+   */
+  @Parameter(property = "classDataSharingArchives")
+  private File                        classDataSharingArchives;
+
+  /**
+   * File in which to store the coverage of each test class, so that later
+   * runs do not run tests whose code is unchanged to calculate coverage
+   */
+  @Parameter(property = "coverageCache")
+  private File                        coverageCache;
   
   /**
    * Convenience flag to read and write history to a local temp file.
@@ -238,12 +263,65 @@ public class AbstractPitMojo extends AbstractMojo {
   @Parameter(property = "mutationUnitSize")
   private int                         mutationUnitSize;
 
+  /**
+   * Generate mutant bytecode once in the main process and send it to minions
+   * rather than regenerating it in each minion.
+   */
+  @Parameter(defaultValue = "false", property = "generateMutantsInParent")
+  private boolean                     generateMutantsInParent;
+
+  /**
+   * Combine the mutants of each class into a single class and enable them in
+   * turn, rather than hot swapping each mutant.
+   */
+  @Parameter(defaultValue = "false", property = "mutantSchemata")
+  private boolean                     mutantSchemata;
+
+  /**
+   * Number of mutations a minion may analyse before it is replaced. If set
+   * to 0 a new minion is launched for every unit of analysis.
+   */
+  @Parameter(defaultValue = "0", property = "minionReuseLimit")
+  private int                         minionReuseLimit;
+
   /**
    * Export line coverage data
    */
   @Parameter(defaultValue = "false", property = "exportLineCoverage")
   private boolean                     exportLineCoverage;
 
+  /**
+   * Export line coverage data in a compact binary format rather than as xml
+   */
+  @Parameter(defaultValue = "false", property = "binaryLineCoverage")
+  private boolean                     binaryLineCoverage;
+
+  /**
+   * Instrument code for coverage with probes suited to tests that run code on
+   * many threads
+   */
+  @Parameter(defaultValue = "false", property = "concurrentCoverageProbes")
+  private boolean                     concurrentCoverageProbes;
+
+  /**
+   * Find mutations while coverage is being gathered
+   */
+  @Parameter(defaultValue = "false", property = "generateMutantsDuringCoverage")
+  private boolean                     generateMutantsDuringCoverage;
+
+  /**
+   * Attempt to carry on in the same minion after a test times out
+   */
+  @Parameter(defaultValue = "false", property = "recoverFromTimeouts")
+  private boolean                     recoverFromTimeouts;
+
+  /**
+   * Base the time allowed for each test on its duration against earlier
+   * mutants
+   */
+  @Parameter(defaultValue = "false", property = "adaptiveTimeouts")
+  private boolean                     adaptiveTimeouts;
+
   /**
    * Mutation score threshold at which to fail build
    */
@@ -601,6 +679,18 @@ public class AbstractPitMojo extends AbstractMojo {
     return this.mutationUnitSize;
   }
 
+  public boolean isGenerateMutantsInParent() {
+    return this.generateMutantsInParent;
+  }
+
+  public boolean isMutantSchemata() {
+    return this.mutantSchemata;
+  }
+
+  public int getMinionReuseLimit() {
+    return this.minionReuseLimit;
+  }
+
   public boolean isTimestampedReports() {
     return this.timestampedReports;
   }
@@ -621,10 +711,42 @@ public class AbstractPitMojo extends AbstractMojo {
     return this.historyInputFile;
   }
 
+  public File getClassPathIndexCache() {
+    return this.classPathIndexCache;
+  }
+
+  public File getClassDataSharingArchives() {
+    return this.classDataSharingArchives;
+  }
+
+  public File getCoverageCache() {
+    return this.coverageCache;
+  }
+
   public boolean isExportLineCoverage() {
     return this.exportLineCoverage;
   }
 
+  public boolean isBinaryLineCoverage() {
+    return this.binaryLineCoverage;
+  }
+
+  public boolean isConcurrentCoverageProbes() {
+    return this.concurrentCoverageProbes;
+  }
+
+  public boolean isGenerateMutantsDuringCoverage() {
+    return this.generateMutantsDuringCoverage;
+  }
+
+  public boolean isRecoverFromTimeouts() {
+    return this.recoverFromTimeouts;
+  }
+
+  public boolean isAdaptiveTimeouts() {
+    return this.adaptiveTimeouts;
+  }
+
   protected RunDecision shouldRun() {
     RunDecision decision = new RunDecision();
 
@@ -137,12 +137,24 @@ public class MojoToReportOptionsConverter {
     data.setFullMutationMatrix(this.mojo.isFullMutationMatrix());
 
     data.setMutationUnitSize(this.mojo.getMutationUnitSize());
+    data.setGenerateMutantsInParent(this.mojo.isGenerateMutantsInParent());
+    data.setMutantSchemata(this.mojo.isMutantSchemata());
+    data.setClassPathIndexCache(this.mojo.getClassPathIndexCache());
+    data.setClassDataSharingArchives(this.mojo.getClassDataSharingArchives());
+    data.setCoverageCache(this.mojo.getCoverageCache());
+    data.setMinionReuseLimit(this.mojo.getMinionReuseLimit());
     data.setShouldCreateTimestampedReports(this.mojo.isTimestampedReports());
     data.setDetectInlinedCode(this.mojo.isDetectInlinedCode());
 
     determineHistory(data);
     
     data.setExportLineCoverage(this.mojo.isExportLineCoverage());
+    data.setBinaryLineCoverage(this.mojo.isBinaryLineCoverage());
+    data.setConcurrentCoverageProbes(this.mojo.isConcurrentCoverageProbes());
+    data.setGenerateMutantsDuringCoverage(
+        this.mojo.isGenerateMutantsDuringCoverage());
+    data.setRecoverFromTimeouts(this.mojo.isRecoverFromTimeouts());
+    data.setAdaptiveTimeouts(this.mojo.isAdaptiveTimeouts());
     data.setMutationEngine(this.mojo.getMutationEngine());
     data.setJavaExecutable(this.mojo.getJavaExecutable());
     data.setFreeFormProperties(createPluginProperties());
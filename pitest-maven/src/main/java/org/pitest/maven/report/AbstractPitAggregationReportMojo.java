@@ -28,7 +28,7 @@ abstract class AbstractPitAggregationReportMojo extends PitReportMojo {
 
   private static final String REPORT_DIR_RELATIVE_TO_PROJECT = "target/pit-reports";
   private static final String MUTATION_RESULT_FILTER = "mutations.xml";
-  private static final String LINECOVERAGE_FILTER = "linecoverage.xml";
+  private static final String LINECOVERAGE_FILTER = "linecoverage.xml,linecoverage.bin";
 
   /**
    * The projects in the reactor.
@@ -287,11 +287,26 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
     assertEquals(true, actual.isFullMutationMatrix());
   }
 
+  public void testParsesGenerateMutantsInParent() {
+    final ReportOptions actual = parseConfig("<generateMutantsInParent>true</generateMutantsInParent>");
+    assertEquals(true, actual.isGenerateMutantsInParent());
+  }
+
+  public void testParsesMutantSchemata() {
+    final ReportOptions actual = parseConfig("<mutantSchemata>true</mutantSchemata>");
+    assertEquals(true, actual.isMutantSchemata());
+  }
+
   public void testParsesMutationUnitSize() {
     final ReportOptions actual = parseConfig("<mutationUnitSize>50</mutationUnitSize>");
     assertEquals(50, actual.getMutationUnitSize());
   }
 
+  public void testParsesMinionReuseLimit() {
+    final ReportOptions actual = parseConfig("<minionReuseLimit>500</minionReuseLimit>");
+    assertEquals(500, actual.getMinionReuseLimit());
+  }
+
   public void testDefaultsMutationUnitSizeToCorrectValue() {
     final ReportOptions actual = parseConfig("");
     assertEquals(
@@ -304,6 +319,21 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
     assertEquals(false, actual.shouldCreateTimeStampedReports());
   }
 
+  public void testParsesClassPathIndexCache() {
+    final ReportOptions actual = parseConfig("<classPathIndexCache>foo</classPathIndexCache>");
+    assertEquals(new File("foo"), actual.getClassPathIndexCache());
+  }
+
+  public void testParsesClassDataSharingArchives() {
+    final ReportOptions actual = parseConfig("<classDataSharingArchives>foo</classDataSharingArchives>");
+    assertEquals(new File("foo"), actual.getClassDataSharingArchives());
+  }
+
+  public void testParsesCoverageCache() {
+    final ReportOptions actual = parseConfig("<coverageCache>foo</coverageCache>");
+    assertEquals(new File("foo"), actual.getCoverageCache());
+  }
+
   public void testParsesHistoryInputFile() {
     final ReportOptions actual = parseConfig("<historyInputFile>foo</historyInputFile>");
     assertEquals(new File("foo"), actual.getHistoryInputLocation());
@@ -333,6 +363,31 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
     assertFalse(actual.shouldExportLineCoverage());
   }
 
+  public void testParsesBinaryLineCoverageFlag() {
+    final ReportOptions actual = parseConfig("<binaryLineCoverage>true</binaryLineCoverage>");
+    assertTrue(actual.isBinaryLineCoverage());
+  }
+
+  public void testParsesConcurrentCoverageProbesFlag() {
+    final ReportOptions actual = parseConfig("<concurrentCoverageProbes>true</concurrentCoverageProbes>");
+    assertTrue(actual.isConcurrentCoverageProbes());
+  }
+
+  public void testParsesGenerateMutantsDuringCoverageFlag() {
+    final ReportOptions actual = parseConfig("<generateMutantsDuringCoverage>true</generateMutantsDuringCoverage>");
+    assertTrue(actual.isGenerateMutantsDuringCoverage());
+  }
+
+  public void testParsesRecoverFromTimeoutsFlag() {
+    final ReportOptions actual = parseConfig("<recoverFromTimeouts>true</recoverFromTimeouts>");
+    assertTrue(actual.isRecoverFromTimeouts());
+  }
+
+  public void testParsesAdaptiveTimeoutsFlag() {
+    final ReportOptions actual = parseConfig("<adaptiveTimeouts>true</adaptiveTimeouts>");
+    assertTrue(actual.isAdaptiveTimeouts());
+  }
+
   public void testParsesEngineWhenSet() {
     final ReportOptions actual = parseConfig("<mutationEngine>foo</mutationEngine>");
     assertEquals("foo", actual.getMutationEngine());
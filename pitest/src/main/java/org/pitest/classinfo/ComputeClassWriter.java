@@ -60,6 +60,18 @@ public class ComputeClassWriter extends ClassWriter {
     this.cache = cache;
   }
 
+  /**
+   * Creates a writer that copies methods left unchanged by a transformation
+   * directly from the supplied reader
+   */
+  public ComputeClassWriter(final ClassReader reader,
+      final ClassByteArraySource bytes, final Map<String, String> cache,
+      final int flags) {
+    super(reader, flags);
+    this.bytes = bytes;
+    this.cache = cache;
+  }
+
   @Override
   protected String getCommonSuperClass(final String type1, final String type2) {
     final String key = type1 + "!_!" + type2;
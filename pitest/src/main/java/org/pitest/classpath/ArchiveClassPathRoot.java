@@ -14,6 +14,7 @@
  */
 package org.pitest.classpath;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -27,52 +28,52 @@ import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 import java.util.Optional;
-import org.pitest.util.StreamUtil;
 import org.pitest.util.Unchecked;
 
 /**
- * ClassPathRoot wrapping a jar or zip file
+ * ClassPathRoot wrapping a jar or zip file.
+ *
+ * The archive is opened on first use and then held open until closed, so that
+ * each lookup is a hash lookup against the archive's central directory rather
+ * than a fresh read of the file. Streams returned by {@link #getData} read
+ * from the open archive, so it is not reopened while in use, even if the file
+ * is modified.
  */
-public class ArchiveClassPathRoot implements ClassPathRoot, IOHeavyRoot {
+public class ArchiveClassPathRoot implements ClassPathRoot, IOHeavyRoot,
+    Closeable {
 
-  private final File file;
+  private final File                        file;
+  private final Optional<ArchiveIndexCache> indexCache;
+  private ZipFile                           zip;
 
   public ArchiveClassPathRoot(final File file) {
+    this(file, Optional.<ArchiveIndexCache> empty());
+  }
+
+  public ArchiveClassPathRoot(final File file,
+      final Optional<ArchiveIndexCache> indexCache) {
     this.file = file;
+    this.indexCache = indexCache;
   }
 
   @Override
   public InputStream getData(final String name) throws IOException {
-    try (ZipFile zip = getRoot()) {
-      final ZipEntry entry = zip.getEntry(name.replace('.', '/') + ".class");
-      if (entry == null) {
-        return null;
-      }
-      return StreamUtil.copyStream(zip.getInputStream(entry));
+    final ZipFile zip = getRoot();
+    final ZipEntry entry = zip.getEntry(name.replace('.', '/') + ".class");
+    if (entry == null) {
+      return null;
     }
+    return zip.getInputStream(entry);
   }
 
   @Override
   public URL getResource(final String name) throws MalformedURLException {
     final ZipFile zip = getRoot();
-    try {
-      final ZipEntry entry = zip.getEntry(name);
-      if (entry != null) {
-        return new URL("jar:file:" + zip.getName() + "!/" + entry.getName());
-      } else {
-        return null;
-      }
-    } finally {
-      closeQuietly(zip);
-    }
-
-  }
-
-  private static void closeQuietly(final ZipFile zip) {
-    try {
-      zip.close();
-    } catch (final IOException e) {
-      throw Unchecked.translateCheckedException(e);
+    final ZipEntry entry = zip.getEntry(name);
+    if (entry != null) {
+      return new URL("jar:file:" + zip.getName() + "!/" + entry.getName());
+    } else {
+      return null;
     }
   }
 
@@ -83,21 +84,28 @@ public class ArchiveClassPathRoot implements ClassPathRoot, IOHeavyRoot {
 
   @Override
   public Collection<String> classNames() {
-    final List<String> names = new ArrayList<>();
-    final ZipFile root = getRoot();
-    try {
-      final Enumeration<? extends ZipEntry> entries = root.entries();
-      while (entries.hasMoreElements()) {
-        final ZipEntry entry = entries.nextElement();
-        if (!entry.isDirectory() && entry.getName().endsWith(".class")) {
-          names.add(stringToClassName(entry.getName()));
-        }
+    if (this.indexCache.isPresent()) {
+      final Optional<List<String>> cached = this.indexCache.get().read(this.file);
+      if (cached.isPresent()) {
+        return cached.get();
       }
+      final List<String> names = scanClassNames();
+      this.indexCache.get().write(this.file, names);
       return names;
-    } finally {
-      closeQuietly(root);
     }
+    return scanClassNames();
+  }
 
+  private List<String> scanClassNames() {
+    final List<String> names = new ArrayList<>();
+    final Enumeration<? extends ZipEntry> entries = getRoot().entries();
+    while (entries.hasMoreElements()) {
+      final ZipEntry entry = entries.nextElement();
+      if (!entry.isDirectory() && entry.getName().endsWith(".class")) {
+        names.add(stringToClassName(entry.getName()));
+      }
+    }
+    return names;
   }
 
   private String stringToClassName(final String name) {
@@ -110,13 +118,24 @@ public class ArchiveClassPathRoot implements ClassPathRoot, IOHeavyRoot {
     return Optional.ofNullable(this.file.getAbsolutePath());
   }
 
-  private ZipFile getRoot() {
+  @Override
+  public synchronized void close() throws IOException {
+    if (this.zip != null) {
+      this.zip.close();
+      this.zip = null;
+    }
+  }
+
+  private synchronized ZipFile getRoot() {
     try {
-      return new ZipFile(this.file);
+      if (this.zip == null) {
+        this.zip = new ZipFile(this.file);
+      }
     } catch (final IOException ex) {
       throw Unchecked.translateCheckedException(ex.getMessage() + " ("
           + this.file + ")", ex);
     }
+    return this.zip;
   }
 
 }
@@ -0,0 +1,190 @@
+package org.pitest.classpath;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.Adler32;
+
+import org.pitest.util.Log;
+
+/**
+ * Persists the class names held by each archive on the classpath, so that
+ * archives that have not changed since a previous run need not be opened and
+ * scanned.
+ *
+ * An entry is reused only if the archive's size, modification time and a
+ * checksum of its central directory all match. The central directory holds
+ * the name, size and crc of every entry, so the checksum changes with the
+ * content of the archive, but can be calculated by reading only its tail.
+ */
+public class ArchiveIndexCache {
+
+  private static final Logger LOG                  = Log.getLogger();
+
+  private static final int    FORMAT_VERSION       = 1;
+
+  private static final int    END_OF_CENTRAL_DIR   = 0x06054b50;
+  private static final int    END_OF_CENTRAL_SIZE  = 22;
+  private static final int    MAX_COMMENT_LENGTH   = 0xFFFF;
+
+  private final File          directory;
+
+  public ArchiveIndexCache(final File directory) {
+    this.directory = directory;
+  }
+
+  /**
+   * Returns the class names previously stored for the archive, if the archive
+   * is unchanged.
+   *
+   * @param archive
+   *          archive to read names for
+   * @return the stored class names, or empty if none are stored or they are
+   *         out of date
+   */
+  public Optional<List<String>> read(final File archive) {
+    final File entry = entryFor(archive);
+    if (!entry.exists()) {
+      return Optional.empty();
+    }
+
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+        new FileInputStream(entry)))) {
+      if ((in.readInt() != FORMAT_VERSION)
+          || !in.readUTF().equals(archive.getAbsolutePath())
+          || (in.readLong() != archive.length())
+          || (in.readLong() != archive.lastModified())
+          || (in.readLong() != checksum(archive))) {
+        return Optional.empty();
+      }
+
+      final int count = in.readInt();
+      final List<String> names = new ArrayList<>(count);
+      for (int i = 0; i != count; i++) {
+        names.add(in.readUTF());
+      }
+      return Optional.of(names);
+    } catch (final IOException ex) {
+      LOG.fine("Could not read classpath index for " + archive + ": " + ex);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Stores the class names held by an archive.
+   *
+   * @param archive
+   *          archive the names were read from
+   * @param names
+   *          class names held by the archive
+   */
+  public void write(final File archive, final Collection<String> names) {
+    Path temp = null;
+    try {
+      this.directory.mkdirs();
+      temp = Files.createTempFile(this.directory.toPath(), archive.getName(),
+          ".tmp");
+      try (DataOutputStream out = new DataOutputStream(
+          new BufferedOutputStream(Files.newOutputStream(temp)))) {
+        out.writeInt(FORMAT_VERSION);
+        out.writeUTF(archive.getAbsolutePath());
+        out.writeLong(archive.length());
+        out.writeLong(archive.lastModified());
+        out.writeLong(checksum(archive));
+        out.writeInt(names.size());
+        for (final String each : names) {
+          out.writeUTF(each);
+        }
+      }
+      // each writer fills its own file and renames it over the entry, so a
+      // concurrent run reads either the previous index or this one. Where the
+      // file system cannot rename atomically the index is not stored
+      Files.move(temp, entryFor(archive).toPath(),
+          StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException ex) {
+      LOG.fine("Could not write classpath index for " + archive + ": " + ex);
+      deleteQuietly(temp);
+    }
+  }
+
+  private static void deleteQuietly(final Path temp) {
+    if (temp != null) {
+      try {
+        Files.deleteIfExists(temp);
+      } catch (final IOException ex) {
+        LOG.fine("Could not delete " + temp + ": " + ex);
+      }
+    }
+  }
+
+  private File entryFor(final File archive) {
+    final String path = archive.getAbsolutePath();
+    return new File(this.directory, archive.getName() + "-"
+        + Integer.toHexString(path.hashCode()) + ".idx");
+  }
+
+  static long checksum(final File archive) throws IOException {
+    try (RandomAccessFile raf = new RandomAccessFile(archive, "r")) {
+      final long length = raf.length();
+      final byte[] tail = new byte[(int) Math.min(length, END_OF_CENTRAL_SIZE
+          + MAX_COMMENT_LENGTH)];
+      raf.seek(length - tail.length);
+      raf.readFully(tail);
+
+      final Adler32 adler = new Adler32();
+      adler.update(tail);
+
+      final int end = findEndOfCentralDirectory(tail);
+      if (end >= 0) {
+        final long size = readUnsignedInt(tail, end + 12);
+        final long offset = readUnsignedInt(tail, end + 16);
+        // zip64 archives record their offsets elsewhere, so only the tail is
+        // covered for them
+        if ((offset + size) <= length) {
+          raf.seek(offset);
+          final byte[] buffer = new byte[16 * 1024];
+          long remaining = size;
+          while (remaining > 0) {
+            final int read = raf.read(buffer, 0,
+                (int) Math.min(buffer.length, remaining));
+            if (read < 0) {
+              break;
+            }
+            adler.update(buffer, 0, read);
+            remaining -= read;
+          }
+        }
+      }
+      return adler.getValue();
+    }
+  }
+
+  private static int findEndOfCentralDirectory(final byte[] tail) {
+    for (int i = tail.length - END_OF_CENTRAL_SIZE; i >= 0; i--) {
+      if (readUnsignedInt(tail, i) == END_OF_CENTRAL_DIR) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private static long readUnsignedInt(final byte[] bytes, final int offset) {
+    return (bytes[offset] & 0xFFL) | ((bytes[offset + 1] & 0xFFL) << 8)
+        | ((bytes[offset + 2] & 0xFFL) << 16)
+        | ((bytes[offset + 3] & 0xFFL) << 24);
+  }
+
+}
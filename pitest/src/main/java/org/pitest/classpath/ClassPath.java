@@ -15,6 +15,7 @@
 
 package org.pitest.classpath;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -36,8 +37,9 @@ import org.pitest.util.Log;
 import org.pitest.util.ManifestUtils;
 import org.pitest.util.PitError;
 import org.pitest.util.StreamUtil;
+import org.pitest.util.Unchecked;
 
-public class ClassPath {
+public class ClassPath implements Closeable {
 
   private static final Logger         LOG = Log.getLogger();
 
@@ -52,7 +54,17 @@ public class ClassPath {
   }
 
   public ClassPath(final Collection<File> files) {
-    this(createRoots(FCollection.filter(files, exists())));
+    this(files, Optional.<ArchiveIndexCache> empty());
+  }
+
+  /**
+   * @param indexCache
+   *          store in which to persist the class names held by archives
+   *          between runs
+   */
+  public ClassPath(final Collection<File> files,
+      final Optional<ArchiveIndexCache> indexCache) {
+    this(createRoots(FCollection.filter(files, exists()), indexCache));
   }
 
   ClassPath(List<ClassPathRoot> roots) {
@@ -64,7 +76,8 @@ public class ClassPath {
   }
 
   // fixme should not be determining type here
-  private static List<ClassPathRoot> createRoots(final Collection<File> files) {
+  private static List<ClassPathRoot> createRoots(final Collection<File> files,
+      final Optional<ArchiveIndexCache> indexCache) {
     File lastFile = null;
     try {
       final List<ClassPathRoot> rs = new ArrayList<>();
@@ -74,7 +87,7 @@ public class ClassPath {
         if (f.isDirectory()) {
           rs.add(new DirectoryClassPathRoot(f));
         } else {
-          handleArchive(rs, f);
+          handleArchive(rs, f, indexCache);
         }
       }
       return rs;
@@ -83,13 +96,13 @@ public class ClassPath {
     }
   }
 
-  private static void handleArchive(final List<ClassPathRoot> rs, final File f)
-      throws IOException {
+  private static void handleArchive(final List<ClassPathRoot> rs, final File f,
+      final Optional<ArchiveIndexCache> indexCache) throws IOException {
     try {
       if (!f.canRead()) {
         throw new IOException("Can't read the file " + f);
       }
-      rs.add(new ArchiveClassPathRoot(f));
+      rs.add(new ArchiveClassPathRoot(f, indexCache));
     } catch (final ZipException ex) {
       LOG.warning("Can't open the archive " + f);
     }
@@ -156,6 +169,19 @@ public class ClassPath {
         new ClassPathRoot[0]));
   }
 
+  /**
+   * Releases the archives held open by the roots of this classpath. They are
+   * reopened if the classpath is used again.
+   */
+  @Override
+  public void close() {
+    try {
+      this.root.close();
+    } catch (final IOException ex) {
+      throw Unchecked.translateCheckedException(ex);
+    }
+  }
+
   private static Predicate<File> exists() {
     return a -> a.exists() && a.canRead();
   }
@@ -1,5 +1,6 @@
 package org.pitest.classpath;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
@@ -7,32 +8,71 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
+import org.pitest.classinfo.ClassName;
 import org.pitest.functional.FCollection;
 import java.util.Optional;
 
 public class CompoundClassPathRoot implements ClassPathRoot,
-    Iterable<ClassPathRoot> {
+    Iterable<ClassPathRoot>, Closeable {
 
   private final List<ClassPathRoot> roots = new ArrayList<>();
 
+  // position of the first indexed root containing each class. Roots that
+  // cannot cheaply list their classes are not indexed and are always queried
+  private volatile Map<String, Integer> index;
+
   public CompoundClassPathRoot(final List<ClassPathRoot> roots) {
     this.roots.addAll(wrapToAvoidIOOperations(roots));
   }
 
   @Override
   public InputStream getData(final String name) throws IOException {
-    for (final ClassPathRoot each : this.roots) {
-      final InputStream is = each.getData(name);
-      if (is != null) {
-        return is;
+    final String javaName = ClassName.fromString(name).asJavaName();
+    final Integer owner = index().get(javaName);
+    final int last = owner != null ? owner : this.roots.size() - 1;
+    // roots earlier on the classpath take precedence over the indexed owner
+    for (int i = 0; i <= last; i++) {
+      final ClassPathRoot each = this.roots.get(i);
+      if ((owner != null && i == owner) || !isIndexed(each)) {
+        final InputStream is = each.getData(name);
+        if (is != null) {
+          return is;
+        }
       }
     }
     return null;
   }
 
+  private Map<String, Integer> index() {
+    Map<String, Integer> local = this.index;
+    if (local == null) {
+      synchronized (this) {
+        local = this.index;
+        if (local == null) {
+          local = new HashMap<>();
+          for (int i = 0; i != this.roots.size(); i++) {
+            if (isIndexed(this.roots.get(i))) {
+              for (final String each : this.roots.get(i).classNames()) {
+                local.putIfAbsent(each, i);
+              }
+            }
+          }
+          this.index = local;
+        }
+      }
+    }
+    return local;
+  }
+
+  private static boolean isIndexed(final ClassPathRoot root) {
+    return root instanceof NameCachingRoot;
+  }
+
   @Override
   public Collection<String> classNames() {
     final List<String> arrayList = new ArrayList<>();
@@ -77,6 +117,26 @@ public class CompoundClassPathRoot implements ClassPathRoot,
     return Optional.ofNullable(classpath.toString());
   }
 
+  /**
+   * Closes each root that holds resources open, such as an archive.
+   */
+  @Override
+  public void close() throws IOException {
+    IOException failure = null;
+    for (final ClassPathRoot each : this.roots) {
+      if (each instanceof Closeable) {
+        try {
+          ((Closeable) each).close();
+        } catch (final IOException ex) {
+          failure = ex;
+        }
+      }
+    }
+    if (failure != null) {
+      throw failure;
+    }
+  }
+
   @Override
   public Iterator<ClassPathRoot> iterator() {
     return this.roots.iterator();
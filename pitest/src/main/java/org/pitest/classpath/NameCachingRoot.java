@@ -1,11 +1,13 @@
 package org.pitest.classpath;
 
+import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
 import java.lang.ref.SoftReference;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.function.Function;
 
 import org.pitest.classinfo.ClassName;
@@ -16,7 +18,7 @@ import java.util.Optional;
  * root to avoid expensive IO operations at the
  * cost of higher memory consumption
  */
-public class NameCachingRoot implements ClassPathRoot {
+public class NameCachingRoot implements ClassPathRoot, Closeable {
 
   private final ClassPathRoot child;
 
@@ -48,7 +50,8 @@ public class NameCachingRoot implements ClassPathRoot {
         return cachedNames;
       }
     }
-    final Collection<String> names = this.child.classNames();
+    // held as a set so that getData need not scan every name
+    final Collection<String> names = new LinkedHashSet<>(this.child.classNames());
     this.cache = new SoftReference<>(names);
     return  names;
   }
@@ -58,6 +61,13 @@ public class NameCachingRoot implements ClassPathRoot {
     return this.child.cacheLocation();
   }
 
+  @Override
+  public void close() throws IOException {
+    if (this.child instanceof Closeable) {
+      ((Closeable) this.child).close();
+    }
+  }
+
   public static Function<ClassPathRoot, ClassPathRoot> toCachingRoot() {
      return a -> {
       // ugly hack to determine where caching will be useful
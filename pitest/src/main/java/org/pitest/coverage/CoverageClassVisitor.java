@@ -30,7 +30,8 @@ import sun.pitest.CodeCoverageStore;
  * Instruments a class with probes on each line
  */
 public class CoverageClassVisitor extends MethodFilteringAdapter {
-  private final int classId;
+  private final int     classId;
+  private final boolean concurrentProbes;
 
   /**
    * Probe count starts at 1, because probe "0" indicates that the class was hit
@@ -42,8 +43,18 @@ public class CoverageClassVisitor extends MethodFilteringAdapter {
   private boolean   foundClinit;
 
   public CoverageClassVisitor(final int classId, final ClassWriter writer) {
+    this(classId, writer, false);
+  }
+
+  public CoverageClassVisitor(final int classId, final ClassWriter writer,
+      final boolean concurrentProbes) {
     super(writer, BridgeMethodFilter.INSTANCE);
     this.classId = classId;
+    this.concurrentProbes = concurrentProbes;
+  }
+
+  public boolean isConcurrentProbes() {
+    return this.concurrentProbes;
   }
 
   public void registerProbes(final int number) {
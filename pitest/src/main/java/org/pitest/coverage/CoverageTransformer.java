@@ -18,10 +18,17 @@ import sun.pitest.CodeCoverageStore;
 public class CoverageTransformer implements ClassFileTransformer {
 
   private final Predicate<String>   filter;
+  private final boolean             concurrentProbes;
   private final Map<String, String> computeCache = new ConcurrentHashMap<>();
 
   public CoverageTransformer(final Predicate<String> filter) {
+    this(filter, false);
+  }
+
+  public CoverageTransformer(final Predicate<String> filter,
+      final boolean concurrentProbes) {
     this.filter = filter;
+    this.concurrentProbes = concurrentProbes;
   }
 
   @Override
@@ -59,7 +66,7 @@ public class CoverageTransformer implements ClassFileTransformer {
 
     final int id = CodeCoverageStore.registerClass(className);
     try {
-      reader.accept(new CoverageClassVisitor(id, writer),
+      reader.accept(new CoverageClassVisitor(id, writer, this.concurrentProbes),
           ClassReader.EXPAND_FRAMES);
       return writer.toByteArray();
     } catch (AlreadyInstrumentedException ex) {
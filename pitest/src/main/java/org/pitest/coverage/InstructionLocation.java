@@ -16,6 +16,10 @@ public final class InstructionLocation {
     return blockLocation;
   }
 
+  public int getInstructionIndex() {
+    return instructionIndex;
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
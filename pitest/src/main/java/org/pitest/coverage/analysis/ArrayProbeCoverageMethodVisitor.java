@@ -19,6 +19,7 @@ package org.pitest.coverage.analysis;
 
 import java.util.List;
 
+import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
@@ -50,6 +51,9 @@ import sun.pitest.CodeCoverageStore;
  *
  *   private void bar(){
  *     byte[] localRefToProbes = $$pitCoverageProbes;
+ *     if (!localRefToProbes[0]) {
+ *       CodeCoverageStore.classHit(localRefToProbes, thisClassID);
+ *     }
  *     //line of code
  *     localRefToProbes[1] = 1; //assuming above line was probe 1
  *   }
@@ -62,7 +66,7 @@ import sun.pitest.CodeCoverageStore;
  */
 public class ArrayProbeCoverageMethodVisitor extends AbstractCoverageStrategy {
 
-  private int           probeHitArrayLocal;
+  protected int         probeHitArrayLocal;
 
   public ArrayProbeCoverageMethodVisitor(List<Block> blocks,
       InstructionCounter counter, final int classId,
@@ -100,12 +104,24 @@ public class ArrayProbeCoverageMethodVisitor extends AbstractCoverageStrategy {
     this.mv.visitFieldInsn(Opcodes.GETSTATIC, className,
         CodeCoverageStore.PROBE_FIELD_NAME, "[Z");
 
-    //Make sure that we recorded that the class was hit
-    this.mv.visitInsn(DUP);
-    this.mv.visitInsn(ICONST_0);
-    this.mv.visitInsn(ICONST_1);
-    this.mv.visitInsn(BASTORE);
     this.mv.visitVarInsn(ASTORE, this.probeHitArrayLocal);
+
+    recordClassHit();
+  }
+
+  void recordClassHit() {
+    //Make sure that we recorded that the class was hit. The store is called
+    //only the first time the class runs after a reset
+    final Label alreadyHit = new Label();
+    this.mv.visitVarInsn(ALOAD, this.probeHitArrayLocal);
+    this.mv.visitInsn(ICONST_0);
+    this.mv.visitInsn(BALOAD);
+    this.mv.visitJumpInsn(IFNE, alreadyHit);
+    this.mv.visitVarInsn(ALOAD, this.probeHitArrayLocal);
+    pushConstant(this.classId);
+    this.mv.visitMethodInsn(Opcodes.INVOKESTATIC, CodeCoverageStore.CLASS_NAME,
+        CodeCoverageStore.CLASS_HIT_METHOD_NAME, "([ZI)V", false);
+    this.mv.visitLabel(alreadyHit);
   }
 
   @Override
@@ -0,0 +1,75 @@
+package org.pitest.coverage.analysis;
+
+import java.util.List;
+
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.pitest.mutationtest.engine.gregor.analysis.InstructionCounter;
+
+import sun.pitest.CodeCoverageStore;
+
+/**
+ * Instruments a method with probes suited to code run on many threads.
+ *
+ * Each probe reads its slot in the class's probe array and calls the
+ * coverage store only if the slot is not yet set, so a probe is written once
+ * per test, under the store's lock. Once set, a probe is only ever read, so
+ * threads running the same code share cache lines rather than repeatedly
+ * invalidating them, and the lock ensures hits from any thread are seen when
+ * the store is read.
+ *
+ * The slot is read after the volatile epoch the store bumps on each reset.
+ * This orders the read after any reset the thread has seen, so the JIT cannot
+ * hoist it out of a loop and a long-lived thread reports its hits again once
+ * the probes are cleared for the next test.
+ *
+ * public class Foo {
+ *   private void bar(){
+ *     boolean[] localRefToProbes = $$pitCoverageProbes;
+ *     //line of code
+ *     int ignored = CodeCoverageStore.probeEpoch;
+ *     if (!localRefToProbes[1]) {
+ *       CodeCoverageStore.probeHit(localRefToProbes, 1, thisClassID);
+ *     }
+ *   }
+ * }
+ *
+ * The store records the class as hit along with its first probe, so no
+ * separate check is made on method entry.
+ */
+public class ConcurrentProbeCoverageMethodVisitor extends
+    ArrayProbeCoverageMethodVisitor {
+
+  public ConcurrentProbeCoverageMethodVisitor(List<Block> blocks,
+      InstructionCounter counter, final int classId,
+      final MethodVisitor writer, final int access, final String className,
+      final String name, final String desc, final int probeOffset) {
+    super(blocks, counter, classId, writer, access, className, name, desc,
+        probeOffset);
+  }
+
+  @Override
+  void recordClassHit() {
+  }
+
+  @Override
+  void insertProbe() {
+    final int probe = this.probeOffset + this.probeCount;
+    final Label alreadyHit = new Label();
+    this.mv.visitFieldInsn(GETSTATIC, CodeCoverageStore.CLASS_NAME,
+        CodeCoverageStore.PROBE_EPOCH_FIELD_NAME, "I");
+    this.mv.visitInsn(POP);
+    this.mv.visitVarInsn(ALOAD, this.probeHitArrayLocal);
+    pushConstant(probe);
+    this.mv.visitInsn(BALOAD);
+    this.mv.visitJumpInsn(IFNE, alreadyHit);
+    this.mv.visitVarInsn(ALOAD, this.probeHitArrayLocal);
+    pushConstant(probe);
+    pushConstant(this.classId);
+    this.mv.visitMethodInsn(Opcodes.INVOKESTATIC, CodeCoverageStore.CLASS_NAME,
+        CodeCoverageStore.PROBE_HIT_METHOD_NAME, "([ZII)V", false);
+    this.mv.visitLabel(alreadyHit);
+  }
+
+}
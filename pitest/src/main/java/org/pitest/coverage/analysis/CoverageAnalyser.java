@@ -43,10 +43,20 @@ public class CoverageAnalyser extends MethodNode {
         this.probeOffset, (this.probeOffset + blocks.size()) - 1, blocks);
 
     final DefaultInstructionCounter counter = new DefaultInstructionCounter();
-    accept(new InstructionTrackingMethodVisitor(
-        new ArrayProbeCoverageMethodVisitor(blocks, counter, this.classId,
-            this.mv, this.access, parent.getClassName(), this.name, this.desc,
-            this.probeOffset), counter));
+    accept(new InstructionTrackingMethodVisitor(createProbeStrategy(blocks,
+        counter), counter));
+  }
+
+  private MethodVisitor createProbeStrategy(final List<Block> blocks,
+      final DefaultInstructionCounter counter) {
+    if (this.parent.isConcurrentProbes()) {
+      return new ConcurrentProbeCoverageMethodVisitor(blocks, counter,
+          this.classId, this.mv, this.access, this.parent.getClassName(),
+          this.name, this.desc, this.probeOffset);
+    }
+    return new ArrayProbeCoverageMethodVisitor(blocks, counter, this.classId,
+        this.mv, this.access, this.parent.getClassName(), this.name, this.desc,
+        this.probeOffset);
   }
 
   private List<Block> findRequriedProbeLocations() {
@@ -79,7 +79,8 @@ public class CoverageMinion {
       CodeCoverageStore.init(invokeQueue);
 
       HotSwapAgent.addTransformer(new CoverageTransformer(
-          convertToJVMClassFilter(paramsFromParent.getFilter())));
+          convertToJVMClassFilter(paramsFromParent.getFilter()),
+          paramsFromParent.isConcurrentProbes()));
 
       final List<TestUnit> tus = getTestsFromParent(dis, paramsFromParent);
 
@@ -34,16 +34,24 @@ public class CoverageOptions implements Serializable {
   private final boolean           verbose;
   private final TestPluginArguments pitConfig;
   private final int               maxDependencyDistance;
+  private final boolean           concurrentProbes;
 
   public CoverageOptions(final Collection<String> include, final Collection<String> exclude,
       final TestPluginArguments pitConfig, final boolean verbose,
       final int maxDependencyDistance) {
+    this(include, exclude, pitConfig, verbose, maxDependencyDistance, false);
+  }
+
+  public CoverageOptions(final Collection<String> include, final Collection<String> exclude,
+      final TestPluginArguments pitConfig, final boolean verbose,
+      final int maxDependencyDistance, final boolean concurrentProbes) {
     Preconditions.checkNotNull(pitConfig);
     this.include = include;
     this.exclude = exclude;
     this.verbose = verbose;
     this.pitConfig = pitConfig;
     this.maxDependencyDistance = maxDependencyDistance;
+    this.concurrentProbes = concurrentProbes;
   }
 
   public Predicate<String> getFilter() {
@@ -52,6 +60,14 @@ public class CoverageOptions implements Serializable {
         Prelude.not(commonClasses()));
   }
 
+  public Collection<String> getIncludedClasses() {
+    return this.include;
+  }
+
+  public Collection<String> getExcludedClasses() {
+    return this.exclude;
+  }
+
   public boolean isVerbose() {
     return this.verbose;
   }
@@ -64,6 +80,14 @@ public class CoverageOptions implements Serializable {
     return this.maxDependencyDistance;
   }
 
+  /**
+   * Whether code is instrumented with probes that are safe and cheap to hit
+   * from many threads at once, at some cost to single threaded code.
+   */
+  public boolean isConcurrentProbes() {
+    return this.concurrentProbes;
+  }
+
   private static Predicate<String> commonClasses() {
     return Prelude.or(
         glob("java/*"),
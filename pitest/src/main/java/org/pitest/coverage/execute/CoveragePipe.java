@@ -1,7 +1,9 @@
 package org.pitest.coverage.execute;
 
 import java.io.OutputStream;
-import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Map.Entry;
 
 import org.pitest.coverage.CoverageReceiver;
 import org.pitest.coverage.analysis.Block;
@@ -12,12 +14,29 @@ import org.pitest.util.SafeDataOutputStream;
 
 import sun.pitest.CodeCoverageStore;
 
+/**
+ * Sends coverage to the parent process.
+ *
+ * Each test is sent once as a description and afterwards referred to by id.
+ * The hits of a test are grouped by class, with the probes hit in each class
+ * sent as the differences between ascending probe ids, all as variable length
+ * ints. Most values are then small enough to fit into a single byte.
+ */
 public class CoveragePipe implements CoverageReceiver {
 
-  private final SafeDataOutputStream dos;
+  /**
+   * Version of the format in which outcomes are sent. Changes whenever the
+   * layout of any frame changes.
+   */
+  public static final int                FORMAT_VERSION = 1;
+
+  private final SafeDataOutputStream     dos;
+  private final Map<Description, Integer> testIds       = new HashMap<>();
 
   public CoveragePipe(final OutputStream dos) {
     this.dos = new SafeDataOutputStream(dos);
+    this.dos.writeByte(Id.FORMAT);
+    this.dos.writeInt(FORMAT_VERSION);
   }
 
   @Override
@@ -28,19 +47,47 @@ public class CoveragePipe implements CoverageReceiver {
   @Override
   public synchronized void recordTestOutcome(final Description description,
       final boolean wasGreen, final int executionTime) {
-    final Collection<Long> hits = CodeCoverageStore.getHits();
+    final Map<Integer, int[]> hits = CodeCoverageStore.getHitsByClass();
 
     this.dos.writeByte(Id.OUTCOME);
-    this.dos.write(description);
-    this.dos.writeInt(hits.size());
-    for (final Long each : hits) {
-      this.dos.writeLong(each);
+    writeDescription(description);
+    this.dos.writeVarInt(hits.size());
+    for (final Entry<Integer, int[]> each : hits.entrySet()) {
+      writeProbes(each.getKey(), each.getValue());
     }
     this.dos.writeBoolean(wasGreen);
     this.dos.writeInt(executionTime);
 
   }
 
+  private void writeDescription(final Description description) {
+    final Integer known = this.testIds.get(description);
+    if (known != null) {
+      this.dos.writeVarInt(known);
+      return;
+    }
+
+    // the receiver recognises a new test by its id being the next unused one
+    final int id = this.testIds.size();
+    this.testIds.put(description, id);
+    this.dos.writeVarInt(id);
+    this.dos.writeBoolean(description.getFirstTestClass() != null);
+    if (description.getFirstTestClass() != null) {
+      this.dos.writeString(description.getFirstTestClass());
+    }
+    this.dos.writeString(description.getName());
+  }
+
+  private void writeProbes(final int classId, final int[] probes) {
+    this.dos.writeVarInt(classId);
+    this.dos.writeVarInt(probes.length);
+    int last = 0;
+    for (final int probe : probes) {
+      this.dos.writeVarInt(probe - last);
+      last = probe;
+    }
+  }
+
   public synchronized void end(final ExitCode exitCode) {
     this.dos.writeByte(Id.DONE);
     this.dos.writeInt(exitCode.getCode());
@@ -1,10 +1,13 @@
 package org.pitest.coverage.execute;
 
 import java.io.IOException;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.pitest.dependency.DependencyExtractor;
 import org.pitest.functional.FCollection;
@@ -26,35 +29,31 @@ class DependencyFilter {
     if (this.analyser.getMaxDistance() < 0) {
       return tus;
     } else {
-      return FCollection.filter(tus, isWithinReach());
+      final Map<String, Boolean> inReach = analyseTestClasses(tus);
+      return FCollection.filter(tus, tu -> inReach.get(tu.getDescription()
+          .getFirstTestClass()));
     }
   }
 
-  private Predicate<TestUnit> isWithinReach() {
-
-    return new Predicate<TestUnit>() {
-      private final Map<String, Boolean> cache = new HashMap<>();
-
-      @Override
-      public boolean test(final TestUnit testUnit) {
-        final String testClass = testUnit.getDescription().getFirstTestClass();
-        try {
-          if (this.cache.containsKey(testClass)) {
-            return this.cache.get(testClass);
-          } else {
-            final boolean inReach = !DependencyFilter.this.analyser
-                .extractCallDependenciesForPackages(testClass,
-                    DependencyFilter.this.filter).isEmpty();
-            this.cache.put(testClass, inReach);
-            return inReach;
-          }
-
-        } catch (final IOException e) {
-          throw Unchecked.translateCheckedException(e);
-        }
-      }
-
-    };
+  /**
+   * Test classes are analysed in parallel, the extractor sharing what it
+   * learns about each class between them.
+   */
+  private Map<String, Boolean> analyseTestClasses(final List<TestUnit> tus) {
+    final Set<String> testClasses = new HashSet<>();
+    for (final TestUnit each : tus) {
+      testClasses.add(each.getDescription().getFirstTestClass());
+    }
+    return testClasses.parallelStream().collect(
+        Collectors.toMap(Function.identity(), this::isWithinReach));
+  }
+
+  private boolean isWithinReach(final String testClass) {
+    try {
+      return this.analyser.reachesPackages(testClass, this.filter);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
   }
 
 }
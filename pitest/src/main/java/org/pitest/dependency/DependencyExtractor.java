@@ -27,6 +27,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
@@ -41,9 +43,11 @@ import org.pitest.util.Functions;
 import org.pitest.util.Log;
 
 public class DependencyExtractor {
-  private static final Logger        LOG = Log.getLogger();
-  private final int                  depth;
-  private final ClassByteArraySource classToBytes;
+  private static final Logger                      LOG                = Log.getLogger();
+  private final int                                depth;
+  private final ClassByteArraySource               classToBytes;
+  private final Predicate<DependencyAccess>        ignoreCoreClasses  = new IgnoreCoreClasses();
+  private final ConcurrentMap<String, Set<String>> directDependencies = new ConcurrentHashMap<>();
 
   public DependencyExtractor(final ClassByteArraySource classToBytes,
       final int depth) {
@@ -77,6 +81,56 @@ public class DependencyExtractor {
     return FCollection.filter(allDependencies, targetPackages);
   }
 
+  /**
+   * Returns true if a class matching the target packages can be reached from
+   * the supplied class within the maximum distance.
+   *
+   * The direct dependencies of each class are read only once and then
+   * remembered, so classes shared by many tests are not parsed again for each
+   * of them. May be called from many threads at once.
+   */
+  public boolean reachesPackages(final String clazz,
+      final Predicate<String> targetPackages) throws IOException {
+    final String start = Functions.classNameToJVMClassName().apply(clazz);
+    final Set<String> visited = new HashSet<>();
+    visited.add(start);
+
+    List<String> frontier = Collections.singletonList(start);
+    for (int distance = 1; !frontier.isEmpty()
+        && ((this.depth == 0) || (distance <= this.depth)); distance++) {
+      final List<String> next = new ArrayList<>();
+      for (final String each : frontier) {
+        for (final String dependency : directDependencies(each)) {
+          if (visited.add(dependency)) {
+            if (targetPackages.test(Functions.jvmClassToClassName().apply(
+                dependency))) {
+              return true;
+            }
+            next.add(dependency);
+          }
+        }
+      }
+      frontier = next;
+    }
+    return false;
+  }
+
+  private Set<String> directDependencies(final String clazz)
+      throws IOException {
+    final Set<String> known = this.directDependencies.get(clazz);
+    if (known != null) {
+      return known;
+    }
+
+    final Set<String> dependencies = new HashSet<>();
+    for (final DependencyAccess each : extract(clazz, this.ignoreCoreClasses)) {
+      dependencies.add(each.getDest().getOwner());
+    }
+    final Set<String> previous = this.directDependencies.putIfAbsent(clazz,
+        dependencies);
+    return previous != null ? previous : dependencies;
+  }
+
   Set<String> extractCallDependencies(final String clazz,
       final Predicate<DependencyAccess> filter) throws IOException {
 
@@ -10,10 +10,17 @@ public class EngineArguments implements Serializable {
 
   private final Collection<String> mutators;
   private final Collection<String> excludedMethods;
+  private final boolean            mutantSchemata;
 
   public EngineArguments(Collection<String> mutators, Collection<String> excludedMethods) {
+    this(mutators, excludedMethods, false);
+  }
+
+  public EngineArguments(Collection<String> mutators, Collection<String> excludedMethods,
+      boolean mutantSchemata) {
     this.mutators = mutators;
     this.excludedMethods = excludedMethods;
+    this.mutantSchemata = mutantSchemata;
   }
 
   public static EngineArguments arguments() {
@@ -21,11 +28,15 @@ public class EngineArguments implements Serializable {
   }
 
   public EngineArguments withMutators(Collection<String> mutators) {
-    return new EngineArguments(mutators, this.excludedMethods);
+    return new EngineArguments(mutators, this.excludedMethods, this.mutantSchemata);
   }
 
   public EngineArguments withExcludedMethods(Collection<String> excludedMethods) {
-    return new EngineArguments(this.mutators, excludedMethods);
+    return new EngineArguments(this.mutators, excludedMethods, this.mutantSchemata);
+  }
+
+  public EngineArguments withMutantSchemata(boolean mutantSchemata) {
+    return new EngineArguments(this.mutators, this.excludedMethods, mutantSchemata);
   }
 
   public Collection<String> mutators() {
@@ -36,5 +47,13 @@ public class EngineArguments implements Serializable {
     return this.excludedMethods;
   }
 
+  /**
+   * @return true if all mutants of a class should be combined into a single
+   *         class and enabled in turn, rather than swapped in one by one
+   */
+  public boolean mutantSchemata() {
+    return this.mutantSchemata;
+  }
+
 }
 
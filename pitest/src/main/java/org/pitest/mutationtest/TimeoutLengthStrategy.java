@@ -16,9 +16,44 @@
 package org.pitest.mutationtest;
 
 import java.io.Serializable;
+import java.util.Collections;
+import java.util.Map;
 
 public interface TimeoutLengthStrategy extends Serializable {
 
   long getAllowedTime(long normalDuration);
 
+  /**
+   * @param test
+   *          qualified name of the test
+   * @param normalDuration
+   *          time taken by the test when coverage was gathered
+   * @return time the test may run against a mutant
+   */
+  default long getAllowedTime(String test, long normalDuration) {
+    return getAllowedTime(normalDuration);
+  }
+
+  /**
+   * Called in the minion each time a test completes against a mutant within
+   * its allowed time.
+   */
+  default void recordDuration(String test, long duration) {
+  }
+
+  /**
+   * @return expected durations learnt from the durations recorded, to be sent
+   *         back to the main process
+   */
+  default Map<String, Long> getRecordedDurations() {
+    return Collections.emptyMap();
+  }
+
+  /**
+   * Called in the main process with durations learnt by a minion, so that
+   * minions started later may use them.
+   */
+  default void addExpectedDurations(Map<String, Long> durations) {
+  }
+
 }
@@ -0,0 +1,90 @@
+package org.pitest.mutationtest.build;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+
+/**
+ * Allows each test a time based on how long it has taken to run against
+ * earlier mutants, rather than on the single run made when coverage was
+ * gathered in a cold JVM.
+ *
+ * The first run of a test in each minion is not recorded, as it includes
+ * class loading and interpretation before the JIT compiles the code. Until a
+ * test has been recorded the time allowed is that of
+ * {@link PercentAndConstantTimeoutStrategy}, which is never exceeded.
+ */
+public class AdaptiveTimeoutStrategy implements TimeoutLengthStrategy {
+
+  private static final long                       serialVersionUID = 1L;
+
+  static final long                               MIN_MARGIN       = 500;
+
+  private final float                             percent;
+  private final PercentAndConstantTimeoutStrategy coldStrategy;
+
+  // the slowest recorded run of each test. Updated in the main process by
+  // the threads receiving results from each minion
+  private final Map<String, Long>                 expected         = new ConcurrentHashMap<>();
+
+  private transient Set<String>                   warmedUp         = new HashSet<>();
+  private transient Map<String, Long>             recorded         = new HashMap<>();
+
+  public AdaptiveTimeoutStrategy(final float percent, final long constant) {
+    this.percent = percent;
+    this.coldStrategy = new PercentAndConstantTimeoutStrategy(percent,
+        constant);
+  }
+
+  @Override
+  public long getAllowedTime(final long normalDuration) {
+    return this.coldStrategy.getAllowedTime(normalDuration);
+  }
+
+  @Override
+  public long getAllowedTime(final String test, final long normalDuration) {
+    final long cold = getAllowedTime(normalDuration);
+    final Long duration = this.expected.get(test);
+    if (duration == null) {
+      return cold;
+    }
+    return Math.min(cold,
+        Math.round(duration * this.percent) + Math.max(MIN_MARGIN, duration));
+  }
+
+  @Override
+  public void recordDuration(final String test, final long duration) {
+    if (this.warmedUp.add(test)) {
+      return;
+    }
+    this.recorded.merge(test, duration, Math::max);
+    this.expected.merge(test, duration, Math::max);
+  }
+
+  @Override
+  public Map<String, Long> getRecordedDurations() {
+    return Collections.unmodifiableMap(this.recorded);
+  }
+
+  @Override
+  public void addExpectedDurations(final Map<String, Long> durations) {
+    for (final Map.Entry<String, Long> each : durations.entrySet()) {
+      this.expected.merge(each.getKey(), each.getValue(), Math::max);
+    }
+  }
+
+  private void readObject(final ObjectInputStream in) throws IOException,
+      ClassNotFoundException {
+    in.defaultReadObject();
+    this.warmedUp = new HashSet<>();
+    this.recorded = new HashMap<>();
+  }
+
+}
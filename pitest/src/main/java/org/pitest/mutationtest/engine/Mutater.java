@@ -14,7 +14,9 @@
  */
 package org.pitest.mutationtest.engine;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 import org.pitest.classinfo.ClassName;
 
@@ -32,6 +34,21 @@ public interface Mutater {
    */
   Mutant getMutation(MutationIdentifier id);
 
+  /**
+   * Creates mutants matching each of the given MutationIdentifiers.
+   * Implementations may share work between mutants of the same class, so
+   * callers should group identifiers by class where possible.
+   *
+   * @param ids
+   *          the mutants to create
+   * @return Mutants in the order of the supplied identifiers
+   */
+  default List<Mutant> getMutations(Collection<MutationIdentifier> ids) {
+    return ids.stream()
+        .map(this::getMutation)
+        .collect(Collectors.toList());
+  }
+
   /**
    * Scans for possible mutants in the given class
    *
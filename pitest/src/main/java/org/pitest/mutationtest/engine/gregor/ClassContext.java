@@ -21,6 +21,7 @@ import java.util.function.Predicate;
 
 import org.pitest.functional.FCollection;
 import java.util.Optional;
+import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.mutationtest.engine.gregor.blocks.BlockCounter;
@@ -76,6 +77,11 @@ class ClassContext implements BlockCounter {
     return getTargetMutation().filter(idMatches(newId)).isPresent();
   }
 
+  public boolean mayContainTarget(final Location location) {
+    return getTargetMutation().map(t -> t.getLocation().equals(location))
+        .orElse(true);
+  }
+
   private static Predicate<MutationIdentifier> idMatches(
       final MutationIdentifier newId) {
     return a -> a.matches(newId);
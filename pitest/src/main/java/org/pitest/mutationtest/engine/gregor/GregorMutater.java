@@ -90,16 +90,39 @@ public class GregorMutater implements Mutater {
 
   @Override
   public Mutant getMutation(final MutationIdentifier id) {
+    return getMutations(Collections.singletonList(id)).get(0);
+  }
+
+  @Override
+  public List<Mutant> getMutations(final Collection<MutationIdentifier> ids) {
+    final List<Mutant> mutants = new ArrayList<>(ids.size());
+
+    // the class is parsed once for each run of mutations that share it
+    ClassName current = null;
+    byte[] bytes = null;
+    ClassReader reader = null;
+    for (final MutationIdentifier each : ids) {
+      if (!each.getClassName().equals(current)) {
+        current = each.getClassName();
+        bytes = this.byteSource.getBytes(current.asJavaName()).get();
+        reader = new ClassReader(bytes);
+      }
+      mutants.add(createMutant(reader, FrameOptions.pickFlags(bytes), each));
+    }
+
+    return mutants;
+  }
+
+  private Mutant createMutant(final ClassReader reader, final int flags,
+      final MutationIdentifier id) {
 
     final ClassContext context = new ClassContext();
     context.setTargetMutation(Optional.ofNullable(id));
 
-    final Optional<byte[]> bytes = this.byteSource.getBytes(id.getClassName()
-        .asJavaName());
-
-    final ClassReader reader = new ClassReader(bytes.get());
-    final ClassWriter w = new ComputeClassWriter(this.byteSource,
-        this.computeCache, FrameOptions.pickFlags(bytes.get()));
+    // writing via the reader allows methods that do not contain the mutation
+    // to be copied as is, so only the mutated method has its frames computed
+    final ClassWriter w = new ComputeClassWriter(reader, this.byteSource,
+        this.computeCache, flags);
     final MutatingClassVisitor mca = new MutatingClassVisitor(w, context,
         filterMethods(), FCollection.filter(this.mutators,
             isMutatorFor(id)));
@@ -62,10 +62,12 @@ class MutatingClassVisitor extends ClassVisitor {
       final String methodDescriptor, final String signature,
       final String[] exceptions) {
 
+    final Location location = Location.location(
+        ClassName.fromString(this.context.getClassInfo().getName()),
+        MethodName.fromString(methodName), methodDescriptor);
+
     final MethodMutationContext methodContext = new MethodMutationContext(
-        this.context, Location.location(
-            ClassName.fromString(this.context.getClassInfo().getName()),
-            MethodName.fromString(methodName), methodDescriptor));
+        this.context, location);
 
     final MethodVisitor methodVisitor = this.cv.visitMethod(access, methodName,
         methodDescriptor, signature, exceptions);
@@ -74,7 +76,9 @@ class MutatingClassVisitor extends ClassVisitor {
     .withOwner(this.context.getClassInfo()).withAccess(access)
     .withMethodName(methodName).withMethodDescriptor(methodDescriptor);
 
-    if (this.filter.test(info)) {
+    // methods that cannot contain the target mutation are passed straight
+    // through so the writer may copy them unchanged
+    if (this.filter.test(info) && this.context.mayContainTarget(location)) {
       return this.visitMethodForMutation(methodContext, info, methodVisitor);
     } else {
       return methodVisitor;
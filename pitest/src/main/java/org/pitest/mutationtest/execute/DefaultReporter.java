@@ -14,45 +14,136 @@
  */
 package org.pitest.mutationtest.execute;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Id;
+import org.pitest.util.PitError;
 import org.pitest.util.SafeDataOutputStream;
 
+/**
+ * Sends results to the parent process, referring to each mutant by its
+ * position in the batch sent by the parent and to each test name by the
+ * order in which it was first sent.
+ *
+ * A describe is always sent at once, so that the parent knows which mutant
+ * was running if the minion dies. Reports are left buffered until the next
+ * describe or done, unless they have been waiting longer than the flush
+ * interval.
+ */
 public class DefaultReporter implements Reporter {
 
-  private final SafeDataOutputStream w;
+  static final long                              FLUSH_INTERVAL = 100;
+
+  private final SafeDataOutputStream             w;
+  private final Map<MutationIdentifier, Integer> mutations      = new HashMap<>();
+  private final Map<String, Integer>             testNames      = new HashMap<>();
+  private long                                   lastFlush;
 
   DefaultReporter(final OutputStream w) {
-    this.w = new SafeDataOutputStream(w);
+    this.w = new SafeDataOutputStream(new BufferedOutputStream(w));
+  }
+
+  @Override
+  public synchronized void startBatch(
+      final Collection<MutationDetails> mutations) {
+    this.mutations.clear();
+    this.testNames.clear();
+    for (final MutationDetails each : mutations) {
+      this.mutations.put(each.getId(), this.mutations.size());
+    }
   }
 
   @Override
   public synchronized void describe(final MutationIdentifier i)
       throws IOException {
     this.w.writeByte(Id.DESCRIBE);
-    this.w.write(i);
-    this.w.flush();
+    this.w.writeVarInt(indexOf(i));
+    flush();
   }
 
   @Override
   public synchronized void report(final MutationIdentifier i,
       final MutationStatusTestPair mutationDetected) throws IOException {
     this.w.writeByte(Id.REPORT);
-    this.w.write(i);
-    this.w.write(mutationDetected);
-    this.w.flush();
+    this.w.writeVarInt(indexOf(i));
+    this.w.writeVarInt(mutationDetected.getStatus().ordinal());
+    this.w.writeVarInt(mutationDetected.getNumberOfTestsRun());
+    writeTestNames(mutationDetected.getKillingTests());
+    writeTestNames(mutationDetected.getSucceedingTests());
+    if ((System.currentTimeMillis() - this.lastFlush) >= FLUSH_INTERVAL) {
+      flush();
+    }
+  }
+
+  @Override
+  public synchronized void recordDurations(final Map<String, Long> durations) {
+    if (durations.isEmpty()) {
+      return;
+    }
+    this.w.writeByte(Id.DURATIONS);
+    this.w.writeVarInt(durations.size());
+    for (final Map.Entry<String, Long> each : durations.entrySet()) {
+      writeTestName(each.getKey());
+      this.w.writeVarInt((int) Math.min(each.getValue(), Integer.MAX_VALUE));
+    }
+  }
+
+  @Override
+  public synchronized void recordRedefinitions(final int classes,
+      final long millis) {
+    this.w.writeByte(Id.REDEFINITIONS);
+    this.w.writeVarInt(classes);
+    this.w.writeLong(millis);
   }
 
   @Override
   public synchronized void done(final ExitCode exitCode) {
     this.w.writeByte(Id.DONE);
     this.w.writeInt(exitCode.getCode());
+    flush();
+  }
+
+  private int indexOf(final MutationIdentifier i) {
+    final Integer index = this.mutations.get(i);
+    if (index == null) {
+      throw new PitError("Mutation " + i + " is not in the current batch");
+    }
+    return index;
+  }
+
+  private void writeTestNames(final List<String> names) {
+    this.w.writeVarInt(names.size());
+    for (final String each : names) {
+      writeTestName(each);
+    }
+  }
+
+  private void writeTestName(final String name) {
+    final Integer known = this.testNames.get(name);
+    if (known != null) {
+      this.w.writeVarInt(known);
+    } else {
+      // a new name is sent with the next index, followed by the name itself
+      final int index = this.testNames.size();
+      this.testNames.put(name, index);
+      this.w.writeVarInt(index);
+      this.w.writeString(name);
+    }
+  }
+
+  private void flush() {
     this.w.flush();
+    this.lastFlush = System.currentTimeMillis();
   }
 
 }
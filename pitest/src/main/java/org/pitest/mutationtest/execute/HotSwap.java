@@ -1,5 +1,8 @@
 package org.pitest.mutationtest.execute;
 
+import java.util.HashMap;
+import java.util.Map;
+
 import org.pitest.boot.HotSwapAgent;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
@@ -9,10 +12,16 @@ import org.pitest.util.Unchecked;
 class HotSwap implements F3<ClassName, ClassLoader, byte[], Boolean> {
 
   private final ClassByteArraySource byteSource;
-  private byte[]                     lastClassPreMutation;
+
+  // unmutated bytes are held for the life of the minion so that restoring a
+  // class never depends on the size of the shared byte source cache
+  private final Map<ClassName, byte[]> originals = new HashMap<>();
   private ClassName                  lastMutatedClass;
   private ClassLoader                lastUsedLoader;
 
+  private int                        redefinitions;
+  private long                       timeRedefiningNanos;
+
   HotSwap(final ClassByteArraySource byteSource) {
     this.byteSource = byteSource;
   }
@@ -22,39 +31,80 @@ class HotSwap implements F3<ClassName, ClassLoader, byte[], Boolean> {
       final byte[] b) {
     Class<?> clazz;
     try {
-      restoreLastClass(this.byteSource, clazzName, loader);
+      restoreLastClass(clazzName, loader);
       this.lastUsedLoader = loader;
       clazz = Class.forName(clazzName.asJavaName(), false, loader);
-      return HotSwapAgent.hotSwap(clazz, b);
+      return redefine(clazz, b);
     } catch (final ClassNotFoundException e) {
       throw Unchecked.translateCheckedException(e);
     }
 
   }
 
-  private void restoreLastClass(final ClassByteArraySource byteSource,
-      final ClassName clazzName, final ClassLoader loader)
-          throws ClassNotFoundException {
+  private void restoreLastClass(final ClassName clazzName,
+      final ClassLoader loader) throws ClassNotFoundException {
+    // a mutant replaces the whole of its class, so there is no need to
+    // restore a class before swapping in another of its mutants
     if ((this.lastMutatedClass != null)
         && !this.lastMutatedClass.equals(clazzName)) {
       restoreForLoader(this.lastUsedLoader);
-      restoreForLoader(loader);
+      if (loader != this.lastUsedLoader) {
+        restoreForLoader(loader);
+      }
     }
 
-    if ((this.lastMutatedClass == null)
-        || !this.lastMutatedClass.equals(clazzName)) {
-      this.lastClassPreMutation = byteSource.getBytes(clazzName.asJavaName())
-          .get();
+    if (!this.originals.containsKey(clazzName)) {
+      this.originals.put(clazzName,
+          this.byteSource.getBytes(clazzName.asJavaName()).get());
     }
 
     this.lastMutatedClass = clazzName;
   }
 
+  /**
+   * Returns the last mutated class to its original state, so that no mutant
+   * remains active once a batch of mutations is complete.
+   */
+  void restoreLastClass() {
+    if (this.lastMutatedClass != null) {
+      try {
+        restoreForLoader(this.lastUsedLoader);
+      } catch (final ClassNotFoundException e) {
+        throw Unchecked.translateCheckedException(e);
+      }
+      this.lastMutatedClass = null;
+    }
+  }
+
+  /**
+   * @return number of classes redefined so far
+   */
+  int getRedefinitions() {
+    return this.redefinitions;
+  }
+
+  /**
+   * @return total time spent redefining classes, in milliseconds
+   */
+  long getTimeRedefining() {
+    return this.timeRedefiningNanos / 1000000;
+  }
+
   private void restoreForLoader(ClassLoader loader)
       throws ClassNotFoundException {
     final Class<?> clazz = Class.forName(this.lastMutatedClass.asJavaName(), false,
         loader);
-    HotSwapAgent.hotSwap(clazz, this.lastClassPreMutation);
+    redefine(clazz, this.originals.get(this.lastMutatedClass));
+  }
+
+  private boolean redefine(final Class<?> clazz, final byte[] bytes) {
+    final long t0 = System.nanoTime();
+    try {
+      return HotSwapAgent.hotSwap(clazz, bytes);
+    } finally {
+      this.redefinitions++;
+      this.timeRedefiningNanos += System.nanoTime() - t0;
+    }
   }
 
 }
@@ -14,20 +14,38 @@
  */
 package org.pitest.mutationtest.execute;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.engine.PoisonStatus;
+import org.pitest.util.VarInt;
 
 public class MinionArguments implements Serializable {
 
-  private static final long serialVersionUID = 1L;
+  private static final long serialVersionUID = 2L;
 
-  final Collection<MutationDetails> mutations;
+  private static final PoisonStatus[] POISON_STATUSES = PoisonStatus.values();
+
+  // written by writeObject rather than as a graph of objects, so that the
+  // tests and strings shared by many mutations are sent only once
+  transient Collection<MutationDetails> mutations;
   final Collection<ClassName>       testClasses;
   final String                      engine;
   final EngineArguments             engineArgs;
@@ -35,11 +53,41 @@ public class MinionArguments implements Serializable {
   final boolean                     verbose;
   final boolean                     fullMutationMatrix;
   final TestPluginArguments         pitConfig;
+  final Map<MutationIdentifier, byte[]> mutants;
+  final boolean                     recoverFromTimeouts;
 
   public MinionArguments(final Collection<MutationDetails> mutations,
       final Collection<ClassName> tests, final String engine,   final EngineArguments engineArgs,
       final TimeoutLengthStrategy timeoutStrategy, final boolean verbose, final boolean fullMutationMatrix,
       final TestPluginArguments pitConfig) {
+    this(mutations, tests, engine, engineArgs, timeoutStrategy, verbose,
+        fullMutationMatrix, pitConfig,
+        Collections.<MutationIdentifier, byte[]>emptyMap());
+  }
+
+  /**
+   * @param mutants
+   *          bytecode for mutants generated by the main process. Mutants not
+   *          supplied are generated by the minion.
+   */
+  public MinionArguments(final Collection<MutationDetails> mutations,
+      final Collection<ClassName> tests, final String engine,   final EngineArguments engineArgs,
+      final TimeoutLengthStrategy timeoutStrategy, final boolean verbose, final boolean fullMutationMatrix,
+      final TestPluginArguments pitConfig, final Map<MutationIdentifier, byte[]> mutants) {
+    this(mutations, tests, engine, engineArgs, timeoutStrategy, verbose,
+        fullMutationMatrix, pitConfig, mutants, false);
+  }
+
+  /**
+   * @param recoverFromTimeouts
+   *          if true the minion attempts to carry on after a test times out,
+   *          rather than exiting
+   */
+  public MinionArguments(final Collection<MutationDetails> mutations,
+      final Collection<ClassName> tests, final String engine,   final EngineArguments engineArgs,
+      final TimeoutLengthStrategy timeoutStrategy, final boolean verbose, final boolean fullMutationMatrix,
+      final TestPluginArguments pitConfig, final Map<MutationIdentifier, byte[]> mutants,
+      final boolean recoverFromTimeouts) {
     this.mutations = mutations;
     this.testClasses = tests;
     this.engine = engine;
@@ -48,10 +96,122 @@ public class MinionArguments implements Serializable {
     this.verbose = verbose;
     this.fullMutationMatrix = fullMutationMatrix;
     this.pitConfig = pitConfig;
+    this.mutants = mutants;
+    this.recoverFromTimeouts = recoverFromTimeouts;
   }
 
   public boolean isVerbose() {
     return this.verbose;
   }
 
+  private void writeObject(final ObjectOutputStream out) throws IOException {
+    out.defaultWriteObject();
+    final Map<TestInfo, Integer> tests = new HashMap<>();
+    final Map<String, Integer> strings = new HashMap<>();
+    VarInt.write(out, this.mutations.size());
+    for (final MutationDetails each : this.mutations) {
+      final MutationIdentifier id = each.getId();
+      final Location location = id.getLocation();
+      writeString(out, strings, location.getClassName().asInternalName());
+      writeString(out, strings, location.getMethodName().name());
+      writeString(out, strings, location.getMethodDesc());
+      VarInt.write(out, id.getIndexes().size());
+      for (final int index : id.getIndexes()) {
+        VarInt.write(out, index);
+      }
+      writeString(out, strings, id.getMutator());
+      writeString(out, strings, each.getFilename());
+      writeString(out, strings, each.getDescription());
+      VarInt.write(out, each.getLineNumber());
+      VarInt.write(out, each.getBlock());
+      out.writeBoolean(each.isInFinallyBlock());
+      out.writeByte(poisonOf(each).ordinal());
+      VarInt.write(out, each.getTestsInOrder().size());
+      for (final TestInfo test : each.getTestsInOrder()) {
+        final Integer known = tests.get(test);
+        if (known != null) {
+          VarInt.write(out, known);
+        } else {
+          tests.put(test, tests.size());
+          VarInt.write(out, tests.size() - 1);
+          out.writeObject(test);
+        }
+      }
+    }
+  }
+
+  private void readObject(final ObjectInputStream in) throws IOException,
+      ClassNotFoundException {
+    in.defaultReadObject();
+    final List<TestInfo> tests = new ArrayList<>();
+    final List<String> strings = new ArrayList<>();
+    final int count = VarInt.read(in);
+    final List<MutationDetails> read = new ArrayList<>(count);
+    for (int i = 0; i != count; i++) {
+      final Location location = Location.location(
+          ClassName.fromString(readString(in, strings)),
+          MethodName.fromString(readString(in, strings)),
+          readString(in, strings));
+      final int indexCount = VarInt.read(in);
+      final List<Integer> indexes = new ArrayList<>(indexCount);
+      for (int j = 0; j != indexCount; j++) {
+        indexes.add(VarInt.read(in));
+      }
+      final MutationIdentifier id = new MutationIdentifier(location, indexes,
+          readString(in, strings));
+      final String filename = readString(in, strings);
+      final String description = readString(in, strings);
+      final int lineNumber = VarInt.read(in);
+      final int block = VarInt.read(in);
+      final boolean isInFinallyBlock = in.readBoolean();
+      final PoisonStatus poison = POISON_STATUSES[in.readByte()];
+      final MutationDetails details = new MutationDetails(id, filename,
+          description, lineNumber, block, isInFinallyBlock, poison);
+
+      final int testCount = VarInt.read(in);
+      final List<TestInfo> testsInOrder = new ArrayList<>(testCount);
+      for (int j = 0; j != testCount; j++) {
+        final int index = VarInt.read(in);
+        if (index == tests.size()) {
+          tests.add((TestInfo) in.readObject());
+        }
+        testsInOrder.add(tests.get(index));
+      }
+      details.addTestsInOrder(testsInOrder);
+      read.add(details);
+    }
+    this.mutations = read;
+  }
+
+  private static PoisonStatus poisonOf(final MutationDetails details) {
+    if (details.isInStaticInitializer()) {
+      return PoisonStatus.IS_STATIC_INITIALIZER_CODE;
+    }
+    return details.mayPoisonJVM() ? PoisonStatus.MAY_POISON_JVM
+        : PoisonStatus.NORMAL;
+  }
+
+  private static void writeString(final ObjectOutputStream out,
+      final Map<String, Integer> strings, final String value)
+      throws IOException {
+    final Integer known = strings.get(value);
+    if (known != null) {
+      VarInt.write(out, known);
+    } else {
+      // a new string is sent with the next index, followed by its value
+      strings.put(value, strings.size());
+      VarInt.write(out, strings.size() - 1);
+      out.writeUTF(value);
+    }
+  }
+
+  private static String readString(final ObjectInputStream in,
+      final List<String> strings) throws IOException {
+    final int index = VarInt.read(in);
+    if (index == strings.size()) {
+      strings.add(in.readUTF());
+    }
+    return strings.get(index);
+  }
+
 }
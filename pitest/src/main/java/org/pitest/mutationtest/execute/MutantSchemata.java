@@ -0,0 +1,150 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.pitest.bytecode.FrameOptions;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.ComputeClassWriter;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.util.Log;
+
+import sun.pitest.ActiveMutant;
+
+/**
+ * Combines the mutants of a class into a single class, so that the class need
+ * be redefined only once and a mutant then enabled by setting its index in
+ * {@link ActiveMutant}.
+ *
+ * Each mutated method begins with a switch on the active mutant, selecting
+ * either the unmutated body or the full body of one of its mutants.
+ */
+class MutantSchemata {
+
+  private static final Logger        LOG          = Log.getLogger();
+
+  private final ClassByteArraySource byteSource;
+  private final Map<String, String>  computeCache = new HashMap<>();
+
+  MutantSchemata(final ClassByteArraySource byteSource) {
+    this.byteSource = byteSource;
+  }
+
+  /**
+   * Static initializers run only when a class is first initialized, so their
+   * mutants cannot be switched on afterwards.
+   */
+  static boolean canHold(final MutationDetails mutation) {
+    return !mutation.isInStaticInitializer()
+        && !mutation.getMethod().name().equals("<clinit>");
+  }
+
+  /**
+   * Creates a class holding the given mutants, each of which is enabled by
+   * setting its position in the list as the active mutant.
+   *
+   * @param clazz
+   *          class to which all the mutants belong
+   * @param mutants
+   *          mutants to combine
+   * @return bytes of the combined class, or empty if one could not be created
+   */
+  Optional<byte[]> createSchema(final ClassName clazz,
+      final List<Mutant> mutants) {
+    final Optional<byte[]> original = this.byteSource.getBytes(clazz
+        .asJavaName());
+    if (!original.isPresent()) {
+      return Optional.empty();
+    }
+
+    try {
+      final ClassNode schema = read(original.get());
+      final Map<Location, Map<Integer, MethodNode>> byMethod = new LinkedHashMap<>();
+      for (int i = 0; i != mutants.size(); i++) {
+        final Location location = mutants.get(i).getDetails().getId()
+            .getLocation();
+        byMethod.computeIfAbsent(location, k -> new LinkedHashMap<>()).put(i,
+            findMethod(read(mutants.get(i).getBytes()), location));
+      }
+
+      for (final Map.Entry<Location, Map<Integer, MethodNode>> each : byMethod
+          .entrySet()) {
+        addMutants(findMethod(schema, each.getKey()), each.getValue());
+      }
+
+      final ClassWriter w = new ComputeClassWriter(this.byteSource,
+          this.computeCache, FrameOptions.pickFlags(original.get()));
+      schema.accept(w);
+      return Optional.of(w.toByteArray());
+    } catch (final RuntimeException ex) {
+      // most likely a method has grown too large
+      LOG.fine("Could not create mutant schema for " + clazz + ": " + ex);
+      return Optional.empty();
+    }
+  }
+
+  private static void addMutants(final MethodNode target,
+      final Map<Integer, MethodNode> mutants) {
+    final int[] keys = new int[mutants.size()];
+    final LabelNode[] labels = new LabelNode[mutants.size()];
+    final LabelNode unmutated = new LabelNode();
+
+    final InsnList bodies = new InsnList();
+    int i = 0;
+    // ids were assigned in ascending order, as lookupswitch requires. Debug
+    // info for the mutant bodies is dropped as it would duplicate that of
+    // the unmutated body
+    for (final Map.Entry<Integer, MethodNode> each : mutants.entrySet()) {
+      keys[i] = each.getKey();
+      labels[i] = new LabelNode();
+      bodies.add(labels[i]);
+      bodies.add(each.getValue().instructions);
+      target.tryCatchBlocks.addAll(each.getValue().tryCatchBlocks);
+      i++;
+    }
+
+    final InsnList prologue = new InsnList();
+    prologue.add(new MethodInsnNode(Opcodes.INVOKESTATIC,
+        ActiveMutant.CLASS_NAME, ActiveMutant.GET_METHOD_NAME, "()I", false));
+    prologue.add(new LookupSwitchInsnNode(unmutated, keys, labels));
+    prologue.add(unmutated);
+
+    target.instructions.insert(prologue);
+    target.instructions.add(bodies);
+  }
+
+  private static MethodNode findMethod(final ClassNode clazz,
+      final Location location) {
+    for (final MethodNode each : clazz.methods) {
+      if (each.name.equals(location.getMethodName().name())
+          && each.desc.equals(location.getMethodDesc())) {
+        return each;
+      }
+    }
+    throw new IllegalStateException("Could not find " + location);
+  }
+
+  private static ClassNode read(final byte[] bytes) {
+    final ClassNode node = new ClassNode();
+    // frames are recomputed for the combined methods
+    new ClassReader(bytes).accept(node, ClassReader.SKIP_FRAMES);
+    return node;
+  }
+
+}
@@ -17,8 +17,12 @@ package org.pitest.mutationtest.execute;
 import java.io.IOException;
 import java.lang.management.MemoryNotificationInfo;
 import java.net.Socket;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -31,12 +35,12 @@ import org.pitest.classinfo.CachingByteArraySource;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.ClassloaderByteArraySource;
-import org.pitest.functional.F3;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.config.ClientPluginServices;
 import org.pitest.mutationtest.config.MinionSettings;
 import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationEngine;
 import org.pitest.mutationtest.mocksupport.BendJavassistToMyWillTransformer;
 import org.pitest.mutationtest.mocksupport.JavassistInputStreamInterceptorAdapater;
@@ -48,6 +52,7 @@ import org.pitest.util.ExitCode;
 import org.pitest.util.Glob;
 import org.pitest.util.IsolationUtils;
 import org.pitest.util.Log;
+import org.pitest.util.PitError;
 import org.pitest.util.SafeDataInputStream;
 
 public class MutationTestMinion {
@@ -61,6 +66,7 @@ public class MutationTestMinion {
   private final SafeDataInputStream dis;
   private final Reporter            reporter;
   private final MinionSettings      plugins;
+  private final Map<ClassName, List<TestUnit>> testsByClass = new HashMap<>();
 
   public MutationTestMinion(MinionSettings plugins, final SafeDataInputStream dis,
       final Reporter reporter) {
@@ -72,7 +78,7 @@ public class MutationTestMinion {
   public void run() {
     try {
 
-      final MinionArguments paramsFromParent = this.dis
+      MinionArguments paramsFromParent = this.dis
           .read(MinionArguments.class);
 
       Log.setVerbose(paramsFromParent.isVerbose());
@@ -82,23 +88,59 @@ public class MutationTestMinion {
       final ClassByteArraySource byteSource = new CachingByteArraySource(new ClassloaderByteArraySource(
           loader), CACHE_SIZE);
 
-      final F3<ClassName, ClassLoader, byte[], Boolean> hotswap = new HotSwap(
-          byteSource);
+      final HotSwap hotswap = new HotSwap(byteSource);
 
       final MutationEngine engine = createEngine(paramsFromParent.engine, paramsFromParent.engineArgs);
 
 
-      final MutationTestWorker worker = new MutationTestWorker(hotswap,
-          engine.createMutator(byteSource), loader, paramsFromParent.fullMutationMatrix);
+      final Mutater mutater = engine.createMutator(byteSource);
 
-      final List<TestUnit> tests = findTestsForTestClasses(loader,
-          paramsFromParent.testClasses, createTestPlugin(paramsFromParent.pitConfig));
+      final Configuration testPlugin = createTestPlugin(paramsFromParent.pitConfig);
 
-      worker.run(paramsFromParent.mutations, this.reporter,
-          new TimeOutDecoratedTestSource(paramsFromParent.timeoutStrategy,
-              tests, this.reporter));
+      final Optional<TimeoutRecovery> recovery = recoveryFor(paramsFromParent,
+          hotswap);
+
+      int redefinitions = 0;
+      long timeRedefining = 0;
+
+      // a minion from a pool may be sent further batches of mutations after
+      // reporting done. Engine and test plugin settings are shared by all
+      // batches within a run, so only the tests must be looked up again
+      do {
+        final List<TestUnit> tests = findTestsForTestClasses(loader,
+            paramsFromParent.testClasses, testPlugin);
+
+        final MutationTestWorker worker = new MutationTestWorker(hotswap,
+            new SuppliedMutantsMutater(mutater, paramsFromParent.mutations,
+                paramsFromParent.mutants),
+            loader, paramsFromParent.fullMutationMatrix,
+            schemataFor(paramsFromParent.engineArgs, byteSource));
+
+        this.reporter.startBatch(paramsFromParent.mutations);
+        worker.run(paramsFromParent.mutations, this.reporter,
+            new TimeOutDecoratedTestSource(paramsFromParent.timeoutStrategy,
+                tests, this.reporter, recovery));
+
+        LOG.fine("Redefined " + hotswap.getRedefinitions() + " classes in "
+            + hotswap.getTimeRedefining() + " ms");
+
+        // the hotswap is shared by every batch, so only the growth since the
+        // last batch is reported
+        this.reporter.recordRedefinitions(
+            hotswap.getRedefinitions() - redefinitions,
+            hotswap.getTimeRedefining() - timeRedefining);
+        redefinitions = hotswap.getRedefinitions();
+        timeRedefining = hotswap.getTimeRedefining();
+        this.reporter.recordDurations(paramsFromParent.timeoutStrategy
+            .getRecordedDurations());
+        this.reporter.done(ExitCode.OK);
+
+        paramsFromParent = awaitNextBatch();
+        if (paramsFromParent != null) {
+          hotswap.restoreLastClass();
+        }
+      } while (paramsFromParent != null);
 
-      this.reporter.done(ExitCode.OK);
     } catch (final Throwable ex) {
       ex.printStackTrace(System.out);
       LOG.log(Level.WARNING, "Error during mutation test", ex);
@@ -107,6 +149,45 @@ public class MutationTestMinion {
 
   }
 
+  private static Optional<MutantSchemata> schemataFor(
+      final EngineArguments args, final ClassByteArraySource byteSource) {
+    if (args.mutantSchemata()) {
+      return Optional.of(new MutantSchemata(byteSource));
+    }
+    return Optional.empty();
+  }
+
+  private Optional<TimeoutRecovery> recoveryFor(final MinionArguments args,
+      final HotSwap hotswap) {
+    if (args.recoverFromTimeouts) {
+      return Optional.of(new TimeoutRecovery(this.reporter, hotswap));
+    }
+    return Optional.empty();
+  }
+
+  private MinionArguments awaitNextBatch() {
+    try {
+      if (this.dis.readBoolean()) {
+        return this.dis.read(MinionArguments.class);
+      }
+    } catch (final PitError ex) {
+      // parent closed the connection, so there is no more work
+      LOG.fine("No further mutations sent by parent");
+    }
+    return null;
+  }
+
+  private List<TestUnit> findTestsForTestClasses(
+      final ClassLoader loader, final Collection<ClassName> testClasses,
+      final Configuration pitConfig) {
+    final List<TestUnit> tests = new ArrayList<>();
+    for (final ClassName each : testClasses) {
+      tests.addAll(this.testsByClass.computeIfAbsent(each,
+          c -> findTestsForTestClass(loader, c, pitConfig)));
+    }
+    return tests;
+  }
+
   private MutationEngine createEngine(String engine, EngineArguments args) {
     return this.plugins.createEngine(engine).createEngine(args);
   }
@@ -146,10 +227,11 @@ public class MutationTestMinion {
 
   }
 
-  private static List<TestUnit> findTestsForTestClasses(
-      final ClassLoader loader, final Collection<ClassName> testClasses,
+  private static List<TestUnit> findTestsForTestClass(
+      final ClassLoader loader, final ClassName testClass,
       final Configuration pitConfig) {
-    final Collection<Class<?>> tcs = testClasses.stream().flatMap(ClassName.nameToClass(loader)).collect(Collectors.toList());
+    final Collection<Class<?>> tcs = ClassName.nameToClass(loader)
+        .apply(testClass).collect(Collectors.toList());
     final FindTestUnits finder = new FindTestUnits(pitConfig);
     return finder.findTestUnitsForAllSuppliedClasses(tcs);
   }
@@ -20,7 +20,11 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.BooleanSupplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -44,6 +48,8 @@ import org.pitest.testapi.execute.containers.ConcreteResultCollector;
 import org.pitest.testapi.execute.containers.UnContainer;
 import org.pitest.util.Log;
 
+import sun.pitest.ActiveMutant;
+
 public class MutationTestWorker {
 
   private static final Logger                               LOG   = Log
@@ -57,39 +63,127 @@ public class MutationTestWorker {
   private final ClassLoader                                 loader;
   private final F3<ClassName, ClassLoader, byte[], Boolean> hotswap;
   private final boolean                                     fullMutationMatrix;
+  private final Optional<MutantSchemata>                    schemata;
 
   public MutationTestWorker(
       final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
       final Mutater mutater, final ClassLoader loader, final boolean fullMutationMatrix) {
+    this(hotswap, mutater, loader, fullMutationMatrix,
+        Optional.<MutantSchemata> empty());
+  }
+
+  MutationTestWorker(
+      final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
+      final Mutater mutater, final ClassLoader loader,
+      final boolean fullMutationMatrix,
+      final Optional<MutantSchemata> schemata) {
     this.loader = loader;
     this.mutater = mutater;
     this.hotswap = hotswap;
     this.fullMutationMatrix = fullMutationMatrix;
+    this.schemata = schemata;
   }
 
   protected void run(final Collection<MutationDetails> range, final Reporter r,
       final TimeOutDecoratedTestSource testSource) throws IOException {
 
-    for (final MutationDetails mutation : range) {
-      if (DEBUG) {
-        LOG.fine("Running mutation " + mutation);
-      }
-      final long t0 = System.currentTimeMillis();
-      processMutation(r, testSource, mutation);
-      if (DEBUG) {
-        LOG.fine("processed mutation in " + (System.currentTimeMillis() - t0)
-            + " ms.");
+    for (final List<MutationDetails> mutationsInClass : groupByClass(range)) {
+      if (this.schemata.isPresent()) {
+        runWithSchema(this.schemata.get(), mutationsInClass, r, testSource);
+      } else {
+        for (final MutationDetails mutation : mutationsInClass) {
+          processMutation(r, testSource, mutation);
+        }
       }
     }
 
   }
 
+  /**
+   * Groups mutations so that those in the same class are run consecutively,
+   * which allows the class to be restored once rather than between each
+   * mutant.
+   */
+  private static Collection<List<MutationDetails>> groupByClass(
+      final Collection<MutationDetails> range) {
+    final Map<ClassName, List<MutationDetails>> byClass = new LinkedHashMap<>();
+    for (final MutationDetails each : range) {
+      byClass.computeIfAbsent(each.getClassName(), k -> new ArrayList<>())
+          .add(each);
+    }
+    return byClass.values();
+  }
+
+  private void runWithSchema(final MutantSchemata schemata,
+      final List<MutationDetails> mutationsInClass, final Reporter r,
+      final TimeOutDecoratedTestSource testSource) throws IOException {
+    final List<MutationDetails> schemaMutations = mutationsInClass.stream()
+        .filter(MutantSchemata::canHold)
+        .collect(Collectors.toList());
+
+    final List<Mutant> mutants = this.mutater.getMutations(schemaMutations
+        .stream().map(MutationDetails::getId).collect(Collectors.toList()));
+    final ClassName clazz = mutationsInClass.get(0).getClassName();
+    final Optional<byte[]> schema = mutants.isEmpty() ? Optional.empty()
+        : schemata.createSchema(clazz, mutants);
+
+    if (schema.isPresent() && this.hotswap.apply(clazz, this.loader,
+        schema.get())) {
+      try {
+        boolean swappedIn = true;
+        for (int i = 0; i != mutants.size(); i++) {
+          final int id = i;
+          final boolean reapply = !swappedIn;
+          final MutationStatusTestPair result = processMutation(r, testSource,
+              schemaMutations.get(i), mutants.get(i), () -> {
+                ActiveMutant.set(id);
+                return !reapply
+                    || this.hotswap.apply(clazz, this.loader, schema.get());
+              });
+          // recovering from a timeout restores the unmutated class
+          swappedIn = result.getStatus() != DetectionStatus.TIMED_OUT;
+        }
+      } finally {
+        ActiveMutant.set(ActiveMutant.NONE);
+      }
+
+      // mutants that could not be held in the schema are swapped in as before
+      for (final MutationDetails each : mutationsInClass) {
+        if (!MutantSchemata.canHold(each)) {
+          processMutation(r, testSource, each);
+        }
+      }
+    } else {
+      if (!mutants.isEmpty()) {
+        LOG.fine("Falling back to hot swapping mutants in " + clazz);
+      }
+      for (final MutationDetails each : mutationsInClass) {
+        processMutation(r, testSource, each);
+      }
+    }
+  }
+
   private void processMutation(final Reporter r,
       final TimeOutDecoratedTestSource testSource,
       final MutationDetails mutationDetails) throws IOException {
+    final Mutant mutatedClass = this.mutater.getMutation(mutationDetails
+        .getId());
+    processMutation(r, testSource, mutationDetails, mutatedClass,
+        () -> this.hotswap.apply(mutationDetails.getClassName(), this.loader,
+            mutatedClass.getBytes()));
+  }
+
+  private MutationStatusTestPair processMutation(final Reporter r,
+      final TimeOutDecoratedTestSource testSource,
+      final MutationDetails mutationDetails, final Mutant mutatedClass,
+      final BooleanSupplier activateMutant) throws IOException {
+
+    if (DEBUG) {
+      LOG.fine("Running mutation " + mutationDetails);
+    }
+    final long t0 = System.currentTimeMillis();
 
     final MutationIdentifier mutationId = mutationDetails.getId();
-    final Mutant mutatedClass = this.mutater.getMutation(mutationId);
 
     // For the benefit of mocking frameworks such as PowerMock
     // mess with the internals of Javassist so our mutated class
@@ -104,18 +198,25 @@ public class MutationTestWorker {
 
     r.describe(mutationId);
 
-    final MutationStatusTestPair mutationDetected = handleMutation(
-        mutationDetails, mutatedClass, relevantTests);
+    MutationStatusTestPair mutationDetected = handleMutation(
+        mutationDetails, mutatedClass, relevantTests, activateMutant);
+    if (testSource.recoveredFromTimeout()) {
+      mutationDetected = MutationStatusTestPair.notAnalysed(
+          mutationDetected.getNumberOfTestsRun(), DetectionStatus.TIMED_OUT);
+    }
 
     r.report(mutationId, mutationDetected);
     if (DEBUG) {
       LOG.fine("Mutation " + mutationId + " detected = " + mutationDetected);
+      LOG.fine("processed mutation in " + (System.currentTimeMillis() - t0)
+          + " ms.");
     }
+    return mutationDetected;
   }
 
   private MutationStatusTestPair handleMutation(
       final MutationDetails mutationId, final Mutant mutatedClass,
-      final List<TestUnit> relevantTests) {
+      final List<TestUnit> relevantTests, final BooleanSupplier activateMutant) {
     final MutationStatusTestPair mutationDetected;
     if ((relevantTests == null) || relevantTests.isEmpty()) {
       LOG.info("No test coverage for mutation  " + mutationId + " in "
@@ -123,7 +224,7 @@ public class MutationTestWorker {
       mutationDetected =  MutationStatusTestPair.notAnalysed(0, DetectionStatus.RUN_ERROR);
     } else {
       mutationDetected = handleCoveredMutation(mutationId, mutatedClass,
-          relevantTests);
+          relevantTests, activateMutant);
 
     }
     return mutationDetected;
@@ -131,7 +232,7 @@ public class MutationTestWorker {
 
   private MutationStatusTestPair handleCoveredMutation(
       final MutationDetails mutationId, final Mutant mutatedClass,
-      final List<TestUnit> relevantTests) {
+      final List<TestUnit> relevantTests, final BooleanSupplier activateMutant) {
     final MutationStatusTestPair mutationDetected;
     if (DEBUG) {
       LOG.fine("" + relevantTests.size() + " relevant test for "
@@ -140,8 +241,7 @@ public class MutationTestWorker {
 
     final Container c = createNewContainer();
     final long t0 = System.currentTimeMillis();
-    if (this.hotswap.apply(mutationId.getClassName(), this.loader,
-        mutatedClass.getBytes())) {
+    if (activateMutant.getAsBoolean()) {
       if (DEBUG) {
         LOG.fine("replaced class with mutant in "
             + (System.currentTimeMillis() - t0) + " ms");
@@ -14,6 +14,7 @@
  */
 package org.pitest.mutationtest.execute;
 
+import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.FutureTask;
 import java.util.concurrent.TimeUnit;
@@ -22,6 +23,7 @@ import java.util.concurrent.TimeoutException;
 import org.pitest.extension.common.TestUnitDecorator;
 import org.pitest.functional.SideEffect;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.testapi.Description;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
 import org.pitest.util.Unchecked;
@@ -31,26 +33,54 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
   private final TimeoutLengthStrategy timeOutStrategy;
   private final SideEffect            timeOutSideEffect;
   private final long                  executionTime;
+  private final Optional<TimeoutRecovery> recovery;
 
   public MutationTimeoutDecorator(final TestUnit child,
       final SideEffect timeOutSideEffect,
       final TimeoutLengthStrategy timeStrategy, final long executionTime) {
+    this(child, timeOutSideEffect, timeStrategy, executionTime,
+        Optional.empty());
+  }
+
+  /**
+   * @param recovery
+   *          if present, used to recover from a timeout in place of the side
+   *          effect
+   */
+  MutationTimeoutDecorator(final TestUnit child,
+      final SideEffect timeOutSideEffect,
+      final TimeoutLengthStrategy timeStrategy, final long executionTime,
+      final Optional<TimeoutRecovery> recovery) {
     super(child);
     this.timeOutSideEffect = timeOutSideEffect;
     this.executionTime = executionTime;
     this.timeOutStrategy = timeStrategy;
+    this.recovery = recovery;
   }
 
   @Override
   public void execute(final ResultCollector rc) {
 
-    final long maxTime = this.timeOutStrategy
-        .getAllowedTime(this.executionTime);
+    final String test = child().getDescription().getQualifiedName();
+    final long maxTime = this.timeOutStrategy.getAllowedTime(test,
+        this.executionTime);
 
-    final FutureTask<?> future = createFutureForChildTestUnit(rc);
+    final long t0 = System.nanoTime();
+    final OutcomeCollector outcome = new OutcomeCollector(rc);
+    final FutureTask<?> future = new FutureTask<>(createRunnable(outcome),
+        null);
+    final Thread thread = createThreadForChildTestUnit(future);
     executeFutureWithTimeOut(maxTime, future, rc);
     if (!future.isDone()) {
-      this.timeOutSideEffect.apply();
+      if (this.recovery.isPresent()) {
+        recover(this.recovery.get(), thread, future, maxTime, rc);
+      } else {
+        this.timeOutSideEffect.apply();
+      }
+    } else if (outcome.passed()) {
+      // a failing test may stop early, so would lower the time allowed
+      this.timeOutStrategy.recordDuration(test,
+          TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - t0));
     }
 
   }
@@ -68,13 +98,25 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
     }
   }
 
-  private FutureTask<?> createFutureForChildTestUnit(final ResultCollector rc) {
-    final FutureTask<?> future = new FutureTask<>(createRunnable(rc), null);
+  private void recover(final TimeoutRecovery recovery, final Thread thread,
+      final FutureTask<?> future, final long maxTime,
+      final ResultCollector rc) {
+    recovery.recover(thread);
+    // a test that did not end when interrupted is recorded as failing here,
+    // so that no further tests are run against the mutant
+    if (!future.isDone()) {
+      rc.notifyEnd(child().getDescription(), new TimeoutException(
+          "Test did not complete within " + maxTime + " ms"));
+    }
+  }
+
+  private static Thread createThreadForChildTestUnit(
+      final FutureTask<?> future) {
     final Thread thread = new Thread(future);
     thread.setDaemon(true);
     thread.setName("mutationTestThread");
     thread.start();
-    return future;
+    return thread;
   }
 
   private Runnable createRunnable(final ResultCollector rc) {
@@ -88,4 +130,50 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
     };
   }
 
+  private static class OutcomeCollector implements ResultCollector {
+
+    private final ResultCollector child;
+    private volatile boolean      ended  = false;
+    private volatile boolean      failed = false;
+
+    OutcomeCollector(final ResultCollector child) {
+      this.child = child;
+    }
+
+    boolean passed() {
+      return this.ended && !this.failed;
+    }
+
+    @Override
+    public void notifyEnd(final Description description, final Throwable t) {
+      this.child.notifyEnd(description, t);
+      this.ended = true;
+      if (t != null) {
+        this.failed = true;
+      }
+    }
+
+    @Override
+    public void notifyEnd(final Description description) {
+      this.child.notifyEnd(description);
+      this.ended = true;
+    }
+
+    @Override
+    public void notifyStart(final Description description) {
+      this.child.notifyStart(description);
+    }
+
+    @Override
+    public void notifySkipped(final Description description) {
+      this.child.notifySkipped(description);
+    }
+
+    @Override
+    public boolean shouldExit() {
+      return this.child.shouldExit();
+    }
+
+  }
+
 }
@@ -15,18 +15,41 @@
 package org.pitest.mutationtest.execute;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.Map;
 
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.ExitCode;
 
 public interface Reporter {
 
+  /**
+   * Called before a batch of mutations sent by the parent is run.
+   */
+  default void startBatch(Collection<MutationDetails> mutations) {
+  }
+
   void describe(MutationIdentifier i) throws IOException;
 
   void report(MutationIdentifier i, MutationStatusTestPair mutationDetected)
       throws IOException;
 
+  /**
+   * Called after a batch with the durations learnt for each test, before the
+   * batch is reported done.
+   */
+  default void recordDurations(Map<String, Long> durations) {
+  }
+
+  /**
+   * Called after a batch with the number of classes redefined to insert its
+   * mutants and the time taken, before the batch is reported done.
+   */
+  default void recordRedefinitions(int classes, long millis) {
+  }
+
   void done(ExitCode exitCode);
 
 }
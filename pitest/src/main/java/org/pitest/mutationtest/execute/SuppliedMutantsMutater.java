@@ -0,0 +1,58 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.PitError;
+
+/**
+ * Returns mutants whose bytecode was generated by the main process, falling
+ * back to generating any others within the minion.
+ */
+class SuppliedMutantsMutater implements Mutater {
+
+  private final Mutater                                  child;
+  private final Map<MutationIdentifier, MutationDetails> mutations = new HashMap<>();
+  private final Map<MutationIdentifier, byte[]>          mutants;
+
+  SuppliedMutantsMutater(final Mutater child,
+      final Collection<MutationDetails> mutations,
+      final Map<MutationIdentifier, byte[]> mutants) {
+    this.child = child;
+    this.mutants = mutants;
+    for (final MutationDetails each : mutations) {
+      this.mutations.put(each.getId(), each);
+    }
+  }
+
+  @Override
+  public Mutant getMutation(final MutationIdentifier id) {
+    final byte[] bytes = this.mutants.get(id);
+    if (bytes == null) {
+      return this.child.getMutation(id);
+    }
+    return new Mutant(detailsFor(id), bytes);
+  }
+
+  @Override
+  public List<MutationDetails> findMutations(final ClassName classToMutate) {
+    return this.child.findMutations(classToMutate);
+  }
+
+  private MutationDetails detailsFor(final MutationIdentifier id) {
+    final MutationDetails details = this.mutations.get(id);
+    if (details == null) {
+      throw new PitError("Bytecode was supplied for mutation " + id
+          + ", which is not in the current batch");
+    }
+    return details;
+  }
+
+}
@@ -18,6 +18,7 @@ package org.pitest.mutationtest.execute;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -31,13 +32,26 @@ public class TimeOutDecoratedTestSource {
   private final Map<String, TestUnit> allTests = new HashMap<>();
   private final TimeoutLengthStrategy timeoutStrategy;
   private final Reporter              r;
+  private final Optional<TimeoutRecovery> recovery;
 
   public TimeOutDecoratedTestSource(
       final TimeoutLengthStrategy timeoutStrategy,
       final List<TestUnit> allTests, final Reporter r) {
+    this(timeoutStrategy, allTests, r, Optional.empty());
+  }
+
+  /**
+   * @param recovery
+   *          if present, timed out tests are recovered from rather than
+   *          ending the minion
+   */
+  TimeOutDecoratedTestSource(final TimeoutLengthStrategy timeoutStrategy,
+      final List<TestUnit> allTests, final Reporter r,
+      final Optional<TimeoutRecovery> recovery) {
     this.timeoutStrategy = timeoutStrategy;
     mapTests(allTests);
     this.r = r;
+    this.recovery = recovery;
   }
 
   private void mapTests(final List<TestUnit> tests) {
@@ -50,6 +64,14 @@ public class TimeOutDecoratedTestSource {
     return testsInOrder.stream().flatMap(testToTestUnit()).collect(Collectors.toList());
   }
 
+  /**
+   * @return true if a test has timed out and been recovered from since this
+   *         was last called
+   */
+  boolean recoveredFromTimeout() {
+    return this.recovery.map(TimeoutRecovery::clearTimedOut).orElse(false);
+  }
+
   private Function<TestInfo, Stream<TestUnit>> testToTestUnit() {
     return a -> {
       final TestUnit tu = TimeOutDecoratedTestSource.this.allTests.get(a
@@ -59,7 +81,8 @@ public class TimeOutDecoratedTestSource {
             .<TestUnit> of(new MutationTimeoutDecorator(tu,
                 new TimeOutSystemExitSideEffect(
                     TimeOutDecoratedTestSource.this.r),
-                    TimeOutDecoratedTestSource.this.timeoutStrategy, a.getTime()));
+                    TimeOutDecoratedTestSource.this.timeoutStrategy, a.getTime(),
+                    TimeOutDecoratedTestSource.this.recovery));
       }
       return Stream.empty();
     };
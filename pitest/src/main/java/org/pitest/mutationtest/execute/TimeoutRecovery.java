@@ -0,0 +1,92 @@
+package org.pitest.mutationtest.execute;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+import org.pitest.util.ExitCode;
+import org.pitest.util.Log;
+
+/**
+ * Allows a minion to carry on with its next mutant after a test times out,
+ * rather than exiting and leaving the parent to start another minion.
+ *
+ * The mutated class is restored and the test thread interrupted. A thread that
+ * has not stopped within a grace period cannot be safely killed, so it is
+ * abandoned. The minion exits as before once too many abandoned threads are
+ * still running. Memory held by abandoned threads is left to the
+ * {@link MemoryWatchdog}, which exits the minion once a pool is nearly full.
+ */
+class TimeoutRecovery {
+
+  private static final Logger LOG                 = Log.getLogger();
+
+  private static final long   GRACE_PERIOD        = 500;
+  private static final int    MAX_RUNAWAY_THREADS = 2;
+
+  private final Reporter      r;
+  private final HotSwap       hotswap;
+  private final long          gracePeriod;
+  private final int           maxRunawayThreads;
+  private final List<Thread>  runaways            = new ArrayList<>();
+
+  private boolean             timedOut;
+
+  TimeoutRecovery(final Reporter r, final HotSwap hotswap) {
+    this(r, hotswap, GRACE_PERIOD, MAX_RUNAWAY_THREADS);
+  }
+
+  TimeoutRecovery(final Reporter r, final HotSwap hotswap,
+      final long gracePeriod, final int maxRunawayThreads) {
+    this.r = r;
+    this.hotswap = hotswap;
+    this.gracePeriod = gracePeriod;
+    this.maxRunawayThreads = maxRunawayThreads;
+  }
+
+  /**
+   * Recovers from a test that has run for longer than allowed, exiting the
+   * minion if the JVM can no longer be trusted to run further tests.
+   *
+   * @param testThread
+   *          thread running the test
+   */
+  void recover(final Thread testThread) {
+    this.timedOut = true;
+    this.hotswap.restoreLastClass();
+    testThread.interrupt();
+    try {
+      testThread.join(this.gracePeriod);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    if (testThread.isAlive()) {
+      testThread.setPriority(Thread.MIN_PRIORITY);
+      this.runaways.add(testThread);
+    }
+
+    if (!isHealthy()) {
+      this.r.done(ExitCode.TIMEOUT);
+    }
+  }
+
+  /**
+   * @return true if a test has timed out since this was last called
+   */
+  boolean clearTimedOut() {
+    final boolean wasTimedOut = this.timedOut;
+    this.timedOut = false;
+    return wasTimedOut;
+  }
+
+  private boolean isHealthy() {
+    this.runaways.removeIf(t -> !t.isAlive());
+    if (this.runaways.size() > this.maxRunawayThreads) {
+      LOG.fine(this.runaways.size() + " timed out tests are still running");
+      return false;
+    }
+    return true;
+  }
+
+}
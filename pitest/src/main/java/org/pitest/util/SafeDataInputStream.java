@@ -38,6 +38,17 @@ public class SafeDataInputStream {
     }
   }
 
+  /**
+   * Reads an int written by {@link SafeDataOutputStream#writeVarInt}.
+   */
+  public int readVarInt() {
+    try {
+      return VarInt.read(this.dis);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
   public String readString() {
     try {
       return new String(readBytes(), "UTF-8");
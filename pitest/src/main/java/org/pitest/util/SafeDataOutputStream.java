@@ -38,6 +38,18 @@ public class SafeDataOutputStream {
     }
   }
 
+  /**
+   * Writes a non negative int using one byte for each 7 bits of its value, so
+   * that small values take less space than with {@link #writeInt}.
+   */
+  public void writeVarInt(final int value) {
+    try {
+      VarInt.write(this.dos, value);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
   public void writeString(final String str) {
     try {
       final byte[] data = str.getBytes("UTF-8");
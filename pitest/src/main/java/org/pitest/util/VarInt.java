@@ -0,0 +1,35 @@
+package org.pitest.util;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Encodes non negative ints using one byte for each 7 bits of their value, so
+ * that small values take less space than a fixed four bytes.
+ */
+public abstract class VarInt {
+
+  public static void write(final DataOutput out, final int value)
+      throws IOException {
+    int remaining = value;
+    while ((remaining & ~0x7F) != 0) {
+      out.writeByte((remaining & 0x7F) | 0x80);
+      remaining >>>= 7;
+    }
+    out.writeByte(remaining);
+  }
+
+  public static int read(final DataInput in) throws IOException {
+    int value = 0;
+    int shift = 0;
+    int b;
+    do {
+      b = in.readUnsignedByte();
+      value |= (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return value;
+  }
+
+}
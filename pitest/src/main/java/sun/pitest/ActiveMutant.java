@@ -0,0 +1,46 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+// placed in a sun package so non delegating classloaders are likely
+// to still delegate it's loading
+package sun.pitest;
+
+/**
+ * Selects which mutant is enabled within a class that has been rewritten to
+ * hold several mutants at once.
+ */
+public final class ActiveMutant {
+
+  public static final String CLASS_NAME = ActiveMutant.class.getName()
+                                            .replace('.', '/');
+  public static final String GET_METHOD_NAME = "get";
+
+  /**
+   * Id indicating that the unmutated code should run
+   */
+  public static final int    NONE       = -1;
+
+  private static volatile int active = NONE;
+
+  private ActiveMutant() {
+  }
+
+  public static int get() {
+    return active;
+  }
+
+  public static void set(final int id) {
+    active = id;
+  }
+
+}
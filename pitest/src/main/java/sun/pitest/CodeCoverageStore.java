@@ -23,8 +23,8 @@ package sun.pitest;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.pitest.coverage.analysis.Block;
@@ -42,6 +42,9 @@ public final class CodeCoverageStore {
                                                                          '.',
                                                                          '/');
   public static final String                   PROBE_METHOD_NAME = "visitProbes";
+  public static final String                   CLASS_HIT_METHOD_NAME = "classHit";
+  public static final String                   PROBE_HIT_METHOD_NAME = "probeHit";
+  public static final String                   PROBE_EPOCH_FIELD_NAME = "probeEpoch";
 
   private static InvokeReceiver                invokeQueue;
   private static int                           classId           = 0;
@@ -57,6 +60,19 @@ public final class CodeCoverageStore {
   // investigated
   private static final Map<Integer, boolean[]> CLASS_HITS        = new ConcurrentHashMap<>();
 
+  // ids of the classes hit since the last reset, so that the cost of reading
+  // and resetting hits depends on the classes a test runs rather than on all
+  // classes that have been loaded
+  private static int[]                         touchedClasses    = new int[64];
+  private static int                           touchedCount      = 0;
+
+  /**
+   * Incremented by each reset. Concurrent probes read this before reading
+   * their slot, so a thread that keeps running across a reset sees the
+   * cleared probes rather than a value the JIT has kept from before it.
+   */
+  public static volatile int                   probeEpoch        = 0;
+
   public static void init(final InvokeReceiver invokeQueue) {
     CodeCoverageStore.invokeQueue = invokeQueue;
   }
@@ -65,23 +81,59 @@ public final class CodeCoverageStore {
   }
 
   public static synchronized void reset() {
-    for (final Entry<Integer, boolean[]> each : CLASS_HITS.entrySet()) {
-      if (each.getValue()[0]) { //Probe 0 gets covered by any method that runs
-        Arrays.fill(each.getValue(), false);
-      }
+    for (int i = 0; i != touchedCount; i++) {
+      Arrays.fill(CLASS_HITS.get(touchedClasses[i]), false);
     }
+    touchedCount = 0;
+    probeEpoch++;
+  }
+
+  /**
+   * Called by instrumented code the first time a class runs after a reset, so
+   * that only the classes a test touched need be read or reset afterwards.
+   *
+   * @param probes
+   *          probe array of the class
+   * @param classId
+   *          id of the class
+   */
+  public static synchronized void classHit(final boolean[] probes,
+      final int classId) {
+    if (probes[CLASS_HIT_INDEX]) {
+      return;
+    }
+    probes[CLASS_HIT_INDEX] = true;
+    if (touchedCount == touchedClasses.length) {
+      touchedClasses = Arrays.copyOf(touchedClasses, touchedCount * 2);
+    }
+    touchedClasses[touchedCount] = classId;
+    touchedCount++;
+  }
+
+  /**
+   * Called by code instrumented with concurrent probes when it finds a probe
+   * not yet set. Setting the probe under the store's lock makes the hit
+   * visible to {@link #getHits} whichever thread made it, while later visits
+   * only read the probe so threads do not keep writing to shared cache lines.
+   *
+   * @param probes
+   *          probe array of the class
+   * @param probe
+   *          index of the probe that was reached
+   * @param classId
+   *          id of the class
+   */
+  public static synchronized void probeHit(final boolean[] probes,
+      final int probe, final int classId) {
+    probes[probe] = true;
+    classHit(probes, classId);
   }
 
   public static synchronized Collection<Long> getHits() {
     final Collection<Long> blockHits = new ArrayList<>();
-    for (final Entry<Integer, boolean[]> each : CLASS_HITS.entrySet()) {
-      final boolean[] bs = each.getValue();
-      // first entry tracks if class has been visited at all
-      if (!bs[CLASS_HIT_INDEX]) {
-        continue;
-      }
-      final int classId = each.getKey();
-      // final int[] mapping = classProbeToBlockMapping.get(classId);
+    for (int i = 0; i != touchedCount; i++) {
+      final int classId = touchedClasses[i];
+      final boolean[] bs = CLASS_HITS.get(classId);
       for (int probeId = 1; probeId != bs.length; probeId++) {
         if (bs[probeId]) {
           blockHits.add(encode(classId, probeId));
@@ -91,6 +143,30 @@ public final class CodeCoverageStore {
     return blockHits;
   }
 
+  /**
+   * Returns the probes hit since the last reset without boxing each hit.
+   *
+   * @return map from class id to the ascending ids of the probes hit within
+   *         that class, holding only classes that were hit
+   */
+  public static synchronized Map<Integer, int[]> getHitsByClass() {
+    final Map<Integer, int[]> classHits = new LinkedHashMap<>();
+    for (int i = 0; i != touchedCount; i++) {
+      final int classId = touchedClasses[i];
+      final boolean[] bs = CLASS_HITS.get(classId);
+      final int[] probes = new int[bs.length - 1];
+      int count = 0;
+      for (int probeId = 1; probeId != bs.length; probeId++) {
+        if (bs[probeId]) {
+          probes[count] = probeId;
+          count++;
+        }
+      }
+      classHits.put(classId, Arrays.copyOf(probes, count));
+    }
+    return classHits;
+  }
+
   public static int registerClass(final String className) {
     final int id = nextId();
     invokeQueue.registerClass(id, className);
@@ -138,7 +214,8 @@ public final class CodeCoverageStore {
       synchronized (CLASS_HITS) {
         ret = CLASS_HITS.get(classId);
         if (ret.length < probeCount + 1) {
-          ret = new boolean[probeCount + 1];
+          // keep any hits already made, so the class remains marked as touched
+          ret = Arrays.copyOf(ret, probeCount + 1);
           CLASS_HITS.put(classId, ret);
           return ret;
         }
@@ -147,8 +224,10 @@ public final class CodeCoverageStore {
     return ret;
   }
 
-  public static void resetAllStaticState() {
+  public static synchronized void resetAllStaticState() {
     CLASS_HITS.clear();
+    touchedCount = 0;
+    probeEpoch++;
   }
 
 }
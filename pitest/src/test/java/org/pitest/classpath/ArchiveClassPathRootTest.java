@@ -70,6 +70,25 @@ public class ArchiveClassPathRootTest {
     }
   }
 
+  @Test
+  public void shouldServeRepeatedLookupsFromTheSameArchive() throws Exception {
+    for (int i = 0; i != 3; i++) {
+      try (InputStream actual = this.testee.getData("injar.p1.P1Test")) {
+        assertNotNull(actual);
+        assertEquals(0xCA, actual.read());
+      }
+      assertEquals(4, this.testee.classNames().size());
+    }
+  }
+
+  @Test
+  public void shouldReopenArchiveWhenUsedAfterClose() throws Exception {
+    assertNotNull(this.testee.getData("injar.p1.P1Test"));
+    this.testee.close();
+    assertNotNull(this.testee.getData("injar.p1.P1Test"));
+    this.testee.close();
+  }
+
   @Test
   public void getResourceShouldReturnNullForAnUnknownResource()
       throws Exception {
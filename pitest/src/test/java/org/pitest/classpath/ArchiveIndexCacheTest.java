@@ -0,0 +1,90 @@
+package org.pitest.classpath;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ArchiveIndexCacheTest {
+
+  @Rule
+  public TemporaryFolder    testFolder = new TemporaryFolder();
+
+  private ArchiveIndexCache testee;
+
+  @Before
+  public void setUp() throws IOException {
+    this.testee = new ArchiveIndexCache(this.testFolder.newFolder("cache"));
+  }
+
+  @Test
+  public void shouldReturnNothingForArchivesNotYetStored() throws IOException {
+    final File archive = createArchive("foo/Bar.class");
+    assertThat(this.testee.read(archive)).isEqualTo(Optional.empty());
+  }
+
+  @Test
+  public void shouldReturnStoredNamesForUnchangedArchive() throws IOException {
+    final File archive = createArchive("foo/Bar.class");
+    this.testee.write(archive, Arrays.asList("foo.Bar"));
+    assertThat(this.testee.read(archive).get()).containsExactly("foo.Bar");
+  }
+
+  @Test
+  public void shouldNotReturnStoredNamesWhenArchiveContentChanges()
+      throws IOException {
+    final File archive = createArchive("foo/Bar.class");
+    this.testee.write(archive, Arrays.asList("foo.Bar"));
+
+    final long modified = archive.lastModified();
+    final File replacement = createArchive("foo/Baz.class");
+    Files.copy(replacement.toPath(), archive.toPath(),
+        StandardCopyOption.REPLACE_EXISTING);
+    archive.setLastModified(modified);
+
+    assertThat(this.testee.read(archive)).isEqualTo(Optional.empty());
+  }
+
+  @Test
+  public void shouldSupplyClassNamesToArchiveRootsFromCache()
+      throws IOException {
+    final File archive = createArchive("foo/Bar.class");
+    this.testee.write(archive, Arrays.asList("cached.Name"));
+    final ArchiveClassPathRoot root = new ArchiveClassPathRoot(archive,
+        Optional.of(this.testee));
+    assertThat(root.classNames()).containsExactly("cached.Name");
+  }
+
+  @Test
+  public void shouldStoreClassNamesScannedByArchiveRoots() throws IOException {
+    final File archive = createArchive("foo/Bar.class");
+    new ArchiveClassPathRoot(archive, Optional.of(this.testee)).classNames();
+    final List<String> actual = this.testee.read(archive).get();
+    assertThat(actual).containsExactly("foo.Bar");
+  }
+
+  private File createArchive(final String entry) throws IOException {
+    final File archive = this.testFolder.newFile();
+    try (ZipOutputStream zip = new ZipOutputStream(new FileOutputStream(
+        archive))) {
+      zip.putNextEntry(new ZipEntry(entry));
+      zip.write(new byte[] { 1, 2, 3 });
+      zip.closeEntry();
+    }
+    return archive;
+  }
+
+}
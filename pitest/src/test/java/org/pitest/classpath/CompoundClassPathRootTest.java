@@ -89,6 +89,28 @@ public class CompoundClassPathRootTest {
     verify(this.heavyChild).getData("Heavy");
   }
 
-}
+  @Test
+  public void shouldQueryOnlyFirstHeavyRootContainingAClass() throws IOException {
+    final IOHeavyRoot otherHeavyChild = Mockito.mock(IOHeavyRoot.class);
+    this.testee = new CompoundClassPathRoot(Arrays.asList(this.child1,
+        this.heavyChild, otherHeavyChild));
+    when(this.heavyChild.classNames()).thenReturn(Collections.singletonList("com.example.Heavy"));
+    when(otherHeavyChild.classNames()).thenReturn(Collections.singletonList("com.example.Heavy"));
+    final InputStream is = Mockito.mock(InputStream.class);
+    when(this.heavyChild.getData("com/example/Heavy")).thenReturn(is);
 
+    assertThat(this.testee.getData("com/example/Heavy")).isSameAs(is);
+    verify(otherHeavyChild, never()).getData(any(String.class));
+  }
 
+  @Test
+  public void shouldPreferEarlierRootsToIndexedRoots() throws IOException {
+    when(this.heavyChild.classNames()).thenReturn(Collections.singletonList("Foo"));
+    final InputStream is = Mockito.mock(InputStream.class);
+    when(this.child1.getData("Foo")).thenReturn(is);
+
+    assertThat(this.testee.getData("Foo")).isSameAs(is);
+    verify(this.heavyChild, never()).getData(any(String.class));
+  }
+
+}
@@ -84,9 +84,22 @@ public class CoverageTransformerTest {
     assertValidClass(Math.class);
   }
 
+  @Test
+  public void shouldGenerateValidClassesWithConcurrentProbes()
+      throws IllegalClassFormatException {
+    final CoverageTransformer testee = new CoverageTransformer(s -> true, true);
+    assertValidClass(transform(testee, String.class));
+    assertValidClass(transform(testee, Vector.class));
+    assertValidClass(transform(testee, ConcurrentHashMap.class));
+    assertValidClass(transform(testee, Math.class));
+  }
+
   private void assertValidClass(final Class<?> clazz)
       throws IllegalClassFormatException {
-    final byte[] bs = transform(clazz);
+    assertValidClass(transform(clazz));
+  }
+
+  private void assertValidClass(final byte[] bs) {
     // printClass(bs);
     final StringWriter sw = new StringWriter();
     CheckClassAdapter.verify(new ClassReader(bs), false, new PrintWriter(sw));
@@ -108,8 +121,11 @@ public class CoverageTransformerTest {
 
   private byte[] transform(final Class<?> clazz)
       throws IllegalClassFormatException {
-    final CoverageTransformer testee = new CoverageTransformer(
-        s -> true);
+    return transform(new CoverageTransformer(s -> true), clazz);
+  }
+
+  private byte[] transform(final CoverageTransformer testee,
+      final Class<?> clazz) throws IllegalClassFormatException {
     final byte[] bs = testee.transform(this.loader, clazz.getName(), null,
         null, this.bytes.getBytes(clazz.getName()).get());
     return bs;
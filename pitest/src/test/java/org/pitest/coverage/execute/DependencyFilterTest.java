@@ -12,7 +12,6 @@ import static org.mockito.Mockito.when;
 
 import java.io.IOException;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
 import java.util.function.Predicate;
 
@@ -56,21 +55,20 @@ public class DependencyFilterTest {
     final List<TestUnit> actual = this.testee
         .filterTestsByDependencyAnalysis(this.tus);
     assertSame(this.tus, actual);
-    verify(this.extractor, never()).extractCallDependenciesForPackages(
-        anyString(), any(Predicate.class));
+    verify(this.extractor, never()).reachesPackages(anyString(),
+        any(Predicate.class));
   }
 
   @Test
   public void shouldReturnOnlyTestUnitsForClassesWithinReach()
       throws IOException {
     when(
-        this.extractor.extractCallDependenciesForPackages(eq(this.aTestUnit
-            .getDescription().getFirstTestClass()), any(Predicate.class)))
-            .thenReturn(Arrays.asList("foo"));
+        this.extractor.reachesPackages(eq(this.aTestUnit.getDescription()
+            .getFirstTestClass()), any(Predicate.class))).thenReturn(true);
     when(
-        this.extractor.extractCallDependenciesForPackages(
-            eq(this.anotherTestUnit.getDescription().getFirstTestClass()),
-            any(Predicate.class))).thenReturn(Collections.<String> emptyList());
+        this.extractor.reachesPackages(eq(this.anotherTestUnit
+            .getDescription().getFirstTestClass()), any(Predicate.class)))
+            .thenReturn(false);
 
     assertEquals(Arrays.asList(this.aTestUnit),
         this.testee.filterTestsByDependencyAnalysis(this.tus));
@@ -82,14 +80,13 @@ public class DependencyFilterTest {
       throws IOException {
 
     when(
-        this.extractor.extractCallDependenciesForPackages(eq(this.aTestUnit
-            .getDescription().getFirstTestClass()), any(Predicate.class)))
-            .thenReturn(Arrays.asList("foo"));
+        this.extractor.reachesPackages(eq(this.aTestUnit.getDescription()
+            .getFirstTestClass()), any(Predicate.class))).thenReturn(true);
 
     this.tus = Arrays.asList(this.aTestUnit, this.aTestUnit);
 
     this.testee.filterTestsByDependencyAnalysis(this.tus);
-    verify(this.extractor, times(1)).extractCallDependenciesForPackages(
+    verify(this.extractor, times(1)).reachesPackages(
         eq(this.aTestUnit.getDescription().getFirstTestClass()),
         any(Predicate.class));
   }
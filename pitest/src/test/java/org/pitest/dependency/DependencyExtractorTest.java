@@ -15,8 +15,11 @@
 package org.pitest.dependency;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
@@ -132,6 +135,56 @@ public class DependencyExtractorTest {
     assertCollectionEquals(expected, actual);
   }
 
+  @Test
+  public void shouldReachImmediateDependencyWhenDepthIsOne()
+      throws Exception {
+    constructWithDepthOf(1);
+    assertTrue(this.testee.reachesPackages(Foo.class.getName(),
+        isClass(Car.class)));
+  }
+
+  @Test
+  public void shouldNotReachClassesBeyondMaximumDepth() throws Exception {
+    constructWithDepthOf(2);
+    assertTrue(this.testee.reachesPackages(Foo.class.getName(),
+        isClass(Far.class)));
+    assertFalse(this.testee.reachesPackages(Foo.class.getName(),
+        isClass(VeryFar.class)));
+  }
+
+  @Test
+  public void shouldReachAnyDistanceWhenDepthIsZero() throws Exception {
+    constructWithDepthOf(0);
+    assertTrue(this.testee.reachesPackages(Foo.class.getName(),
+        isClass(VeryFar.class)));
+  }
+
+  @Test
+  public void shouldNotConsiderClassToReachItself() throws Exception {
+    constructWithDepthOf(0);
+    assertFalse(this.testee.reachesPackages(CyclicFoo.class.getName(),
+        isClass(CyclicFoo.class)));
+  }
+
+  @Test
+  public void shouldReadEachClassOnlyOnceAcrossQueries() throws Exception {
+    final ClassPathByteArraySource source = new ClassPathByteArraySource();
+    final List<String> read = new ArrayList<>();
+    this.testee = new DependencyExtractor(name -> {
+      read.add(name);
+      return source.getBytes(name);
+    }, 0);
+
+    this.testee.reachesPackages(Foo.class.getName(), s -> false);
+    final int firstQuery = read.size();
+    this.testee.reachesPackages(Bar.class.getName(), s -> false);
+    assertEquals(firstQuery, read.size());
+  }
+
+  private Predicate<String> isClass(final Class<?> clazz) {
+    return a -> a.equals(clazz.getName());
+  }
+
   private Predicate<DependencyAccess> ignoreCoreClasses() {
     return a -> !a.getDest().getOwner().startsWith("java");
 
@@ -0,0 +1,84 @@
+package org.pitest.mutationtest.build;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class AdaptiveTimeoutStrategyTest {
+
+  private final AdaptiveTimeoutStrategy testee = new AdaptiveTimeoutStrategy(
+      1.5f, 4000);
+
+  @Test
+  public void shouldAllowColdTimeForTestsNotYetRecorded() {
+    assertEquals(Math.round(1.5f * 100) + 4000,
+        this.testee.getAllowedTime("foo", 100));
+  }
+
+  @Test
+  public void shouldNotRecordFirstRunOfATest() {
+    this.testee.recordDuration("foo", 10);
+    assertEquals(this.testee.getAllowedTime(100),
+        this.testee.getAllowedTime("foo", 100));
+    assertTrue(this.testee.getRecordedDurations().isEmpty());
+  }
+
+  @Test
+  public void shouldAllowLessTimeOnceTestHasBeenRecorded() {
+    this.testee.recordDuration("foo", 10);
+    this.testee.recordDuration("foo", 10);
+    assertEquals(Math.round(1.5f * 10) + AdaptiveTimeoutStrategy.MIN_MARGIN,
+        this.testee.getAllowedTime("foo", 100));
+  }
+
+  @Test
+  public void shouldBaseAllowedTimeOnSlowestRecordedRun() {
+    this.testee.recordDuration("foo", 10);
+    this.testee.recordDuration("foo", 1000);
+    this.testee.recordDuration("foo", 20);
+    assertEquals(Long.valueOf(1000),
+        this.testee.getRecordedDurations().get("foo"));
+    assertEquals(Math.round(1.5f * 1000) + 1000,
+        this.testee.getAllowedTime("foo", 2000));
+  }
+
+  @Test
+  public void shouldNeverAllowMoreThanColdTime() {
+    this.testee.addExpectedDurations(Collections.singletonMap("foo", 10000L));
+    assertEquals(this.testee.getAllowedTime(100),
+        this.testee.getAllowedTime("foo", 100));
+  }
+
+  @Test
+  public void shouldUseDurationsAddedFromOtherMinions() {
+    this.testee.addExpectedDurations(Collections.singletonMap("foo", 10L));
+    assertEquals(Math.round(1.5f * 10) + AdaptiveTimeoutStrategy.MIN_MARGIN,
+        this.testee.getAllowedTime("foo", 100));
+  }
+
+  @Test
+  public void shouldSendExpectedDurationsButNotRecordedOnesWhenSerialized()
+      throws Exception {
+    this.testee.recordDuration("foo", 10);
+    this.testee.recordDuration("foo", 10);
+
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    try (ObjectOutputStream out = new ObjectOutputStream(bos)) {
+      out.writeObject(this.testee);
+    }
+    final AdaptiveTimeoutStrategy actual = (AdaptiveTimeoutStrategy) new ObjectInputStream(
+        new ByteArrayInputStream(bos.toByteArray())).readObject();
+
+    assertEquals(this.testee.getAllowedTime("foo", 100),
+        actual.getAllowedTime("foo", 100));
+    assertTrue(actual.getRecordedDurations().isEmpty());
+  }
+
+}
@@ -19,13 +19,28 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 import org.junit.Test;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.util.TraceClassVisitor;
+import org.pitest.bytecode.FrameOptions;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ComputeClassWriter;
+import org.pitest.classpath.ClassPathByteArraySource;
 import org.pitest.functional.FCollection;
+import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.mutationtest.engine.gregor.config.Mutator;
 import org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator;
 import org.pitest.mutationtest.engine.gregor.mutators.InvertNegsMutator;
@@ -340,6 +355,50 @@ public class TestGregorMutater extends MutatorTestBase {
                                                                     // target?
   }
 
+  @Test
+  public void shouldCreateSameMutantsInSingleBatchAsWhenCreatedIndividually() {
+    createTesteeWith(Mutator.all());
+    final List<MutationDetails> actualDetails = findMutationsFor(HasTwoMutableMethods.class);
+    final List<Mutant> batch = this.engine.getMutations(actualDetails.stream()
+        .map(MutationDetails::getId).collect(Collectors.toList()));
+
+    assertEquals(actualDetails.size(), batch.size());
+    for (int i = 0; i != batch.size(); i++) {
+      final MutationIdentifier id = actualDetails.get(i).getId();
+      assertEquals(actualDetails.get(i), batch.get(i).getDetails());
+      assertEquals(disassemble(mutateIndividually(id)),
+          disassemble(batch.get(i).getBytes()));
+    }
+  }
+
+  // mutates the class as getMutation did before mutants were batched, from a
+  // fresh reader and through a writer that emits every method again
+  private static byte[] mutateIndividually(final MutationIdentifier id) {
+    final ClassByteArraySource source = new ClassPathByteArraySource();
+    final byte[] bytes = source.getBytes(id.getClassName().asJavaName()).get();
+    final ClassContext context = new ClassContext();
+    context.setTargetMutation(Optional.of(id));
+    final ClassWriter w = new ComputeClassWriter(source,
+        new HashMap<String, String>(), FrameOptions.pickFlags(bytes));
+    new ClassReader(bytes).accept(new MutatingClassVisitor(w, context,
+        m -> true, FCollection.filter(Mutator.all(),
+            m -> m.getGloballyUniqueId().equals(id.getMutator()))),
+        ClassReader.EXPAND_FRAMES);
+    return w.toByteArray();
+  }
+
+  // methods copied unchanged keep the frames and maximums the compiler gave
+  // them, where the writer would have computed its own
+  private static String disassemble(final byte[] bytes) {
+    final StringWriter out = new StringWriter();
+    new ClassReader(bytes).accept(new TraceClassVisitor(new PrintWriter(out)),
+        ClassReader.SKIP_FRAMES);
+    return Arrays.stream(out.toString().split("\n"))
+        .filter(l -> !l.trim().startsWith("MAXSTACK")
+            && !l.trim().startsWith("MAXLOCALS"))
+        .collect(Collectors.joining("\n"));
+  }
+
   @Test
   public void shouldNotMutateCompilerGeneratedConditionalsInStringSwitch() {
     createTesteeWith(new ResourceFolderByteArraySource(),
@@ -2,10 +2,13 @@ package org.pitest.mutationtest.execute;
 
 import static org.junit.Assert.assertEquals;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -14,41 +17,76 @@ import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.util.ExitCode;
 import org.pitest.util.Id;
+import org.pitest.util.PitError;
 import org.pitest.util.SafeDataInputStream;
 
 public class DefaultReporterTest {
 
-  private DefaultReporter       testee;
+  private DefaultReporter          testee;
 
-  private ByteArrayOutputStream os;
+  private ByteArrayOutputStream    os;
+
+  private final MutationIdentifier foo = aMutationId().withIndex(0)
+      .withMutator("foo").build();
+  private final MutationIdentifier bar = aMutationId().withIndex(1)
+      .withMutator("bar").build();
 
   @Before
   public void setUp() {
     this.os = new ByteArrayOutputStream();
     this.testee = new DefaultReporter(this.os);
+    this.testee.startBatch(Arrays.asList(aMutationDetail().withId(this.foo)
+        .build(), aMutationDetail().withId(this.bar).build()));
   }
 
   @Test
-  public void shouldSendMutationIdentifierToOutputStream() throws IOException {
-    final MutationIdentifier mi = aMutationId().withIndex(0).withMutator("foo")
-        .build();
-    this.testee.describe(mi);
+  public void shouldSendPositionOfMutationInBatchWhenDescribing()
+      throws IOException {
+    this.testee.describe(this.bar);
     final SafeDataInputStream is = resultToStream();
     assertEquals(Id.DESCRIBE, is.readByte());
-    assertEquals(is.read(MutationIdentifier.class), mi);
+    assertEquals(1, is.readVarInt());
   }
 
   @Test
   public void shouldSendDetectionStatus() throws IOException {
-    final MutationIdentifier mi = aMutationId().withIndex(0).withMutator("foo")
-        .build();
     final MutationStatusTestPair ms = new MutationStatusTestPair(2,
         DetectionStatus.KILLED, "foo");
-    this.testee.report(mi, ms);
+    this.testee.report(this.foo, ms);
+    this.testee.done(ExitCode.OK);
     final SafeDataInputStream is = resultToStream();
     assertEquals(Id.REPORT, is.readByte());
-    assertEquals(is.read(MutationIdentifier.class), mi);
-    assertEquals(is.read(MutationStatusTestPair.class), ms);
+    assertEquals(0, is.readVarInt());
+    assertEquals(DetectionStatus.KILLED.ordinal(), is.readVarInt());
+    assertEquals(2, is.readVarInt());
+    assertEquals(1, is.readVarInt());
+    assertEquals(0, is.readVarInt());
+    assertEquals("foo", is.readString());
+    assertEquals(0, is.readVarInt());
+  }
+
+  @Test
+  public void shouldSendEachTestNameOnlyOnce() throws IOException {
+    final MutationStatusTestPair ms = new MutationStatusTestPair(1,
+        DetectionStatus.KILLED, "aTest");
+    this.testee.report(this.foo, ms);
+    final int firstReport = bytesSentAfterDone();
+    this.os.reset();
+    this.testee.report(this.bar, ms);
+    assertEquals(firstReport - "aTest".length() - 4, bytesSentAfterDone());
+  }
+
+  @Test
+  public void shouldSendDescribeWithoutWaitingForLaterRecords()
+      throws IOException {
+    this.testee.describe(this.foo);
+    assertEquals(2, this.os.size());
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldNotDescribeMutationsOutsideTheBatch() throws IOException {
+    this.testee.startBatch(Collections.emptyList());
+    this.testee.describe(this.foo);
   }
 
   private SafeDataInputStream resultToStream() {
@@ -57,6 +95,11 @@ public class DefaultReporterTest {
     return is;
   }
 
+  private int bytesSentAfterDone() {
+    this.testee.done(ExitCode.OK);
+    return this.os.size();
+  }
+
   @Test
   public void shouldSendExitCode() {
     this.testee.done(ExitCode.TIMEOUT);
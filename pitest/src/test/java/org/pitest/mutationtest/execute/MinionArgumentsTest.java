@@ -0,0 +1,103 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.PoisonStatus;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+public class MinionArgumentsTest {
+
+  private final TestInfo aTest      = new TestInfo("com.example.FooTest",
+      "com.example.FooTest.shouldFoo", 42,
+      Optional.of(ClassName.fromString("com.example.Foo")), 3);
+  private final TestInfo anotherTest = new TestInfo("com.example.FooTest",
+      "com.example.FooTest.shouldBar", 7, Optional.empty(), 1);
+
+  @Test
+  public void shouldSendMutationsInOrder() {
+    final List<MutationDetails> mutations = Arrays.asList(
+        aMutationDetail().withId(aMutationId().withIndex(3)).build(),
+        aMutationDetail().withId(aMutationId().withIndex(1)).build());
+
+    assertThat(roundTrip(mutations)).containsExactlyElementsOf(mutations);
+  }
+
+  @Test
+  public void shouldSendAllDetailsOfMutations() {
+    final MutationDetails mutation = aMutationDetail()
+        .withId(aMutationId().withIndex(5).withMutator("aMutator"))
+        .withFilename("Foo.java").withDescription("a description")
+        .withLineNumber(12).withBlock(4).withIsInFinallyBlock(true)
+        .withPoison(PoisonStatus.IS_STATIC_INITIALIZER_CODE).build();
+
+    final MutationDetails actual = roundTrip(
+        Collections.singletonList(mutation)).get(0);
+
+    assertThat(actual.toString()).isEqualTo(mutation.toString());
+    assertThat(actual.isInStaticInitializer()).isTrue();
+  }
+
+  @Test
+  public void shouldSendTestsOfEachMutationInOrder() {
+    final MutationDetails first = aMutationDetail().withId(aMutationId()
+        .withIndex(1)).withTestsInOrder(Arrays.asList(this.aTest,
+            this.anotherTest)).build();
+    final MutationDetails second = aMutationDetail().withId(aMutationId()
+        .withIndex(2)).withTestsInOrder(Arrays.asList(this.anotherTest))
+        .build();
+
+    final List<MutationDetails> actual = roundTrip(Arrays.asList(first,
+        second));
+
+    assertThat(actual.get(0).getTestsInOrder()).containsExactly(this.aTest,
+        this.anotherTest);
+    assertThat(actual.get(1).getTestsInOrder()).containsExactly(
+        this.anotherTest);
+    assertThat(actual.get(0).getTestsInOrder().get(0).getTime())
+        .isEqualTo(42);
+  }
+
+  @Test
+  public void shouldSendSharedTestsOnlyOnce() {
+    final MutationDetails first = aMutationDetail().withId(aMutationId()
+        .withIndex(1)).withTestsInOrder(Arrays.asList(this.aTest)).build();
+    final MutationDetails second = aMutationDetail().withId(aMutationId()
+        .withIndex(2)).withTestsInOrder(Arrays.asList(this.aTest)).build();
+
+    final List<MutationDetails> actual = roundTrip(Arrays.asList(first,
+        second));
+
+    assertThat(actual.get(0).getTestsInOrder().get(0)).isSameAs(
+        actual.get(1).getTestsInOrder().get(0));
+  }
+
+  private List<MutationDetails> roundTrip(
+      final List<MutationDetails> mutations) {
+    final MinionArguments args = new MinionArguments(mutations,
+        Collections.<ClassName> emptyList(), "gregor", null, null, false,
+        false, null);
+    final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+    final SafeDataOutputStream out = new SafeDataOutputStream(bos);
+    out.write(args);
+    out.flush();
+    final SafeDataInputStream in = new SafeDataInputStream(
+        new ByteArrayInputStream(bos.toByteArray()));
+    return new ArrayList<>(in.read(MinionArguments.class).mutations);
+  }
+
+}
@@ -0,0 +1,114 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPathByteArraySource;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.gregor.MutatorTestBase;
+import org.pitest.mutationtest.engine.gregor.config.Mutator;
+
+import sun.pitest.ActiveMutant;
+
+public class MutantSchemataTest extends MutatorTestBase {
+
+  private MutantSchemata testee;
+
+  @Before
+  public void setUp() {
+    this.testee = new MutantSchemata(new ClassPathByteArraySource());
+    createTesteeWith(Mutator.byName("MATH"));
+  }
+
+  public static class HasMutantsInTwoMethods {
+    private final int base;
+
+    public HasMutantsInTwoMethods(final int base) {
+      this.base = base + 1;
+    }
+
+    public int compute(final int a, final int b) {
+      return (a + b) * this.base;
+    }
+
+    public int other(final int a) {
+      try {
+        return a - this.base;
+      } catch (final RuntimeException ex) {
+        return 0;
+      }
+    }
+  }
+
+  public static class CallWithMutant implements Callable<Integer> {
+    private final int id;
+
+    public CallWithMutant(final int id) {
+      this.id = id;
+    }
+
+    @Override
+    public Integer call() throws Exception {
+      ActiveMutant.set(this.id);
+      try {
+        final HasMutantsInTwoMethods m = new HasMutantsInTwoMethods(1);
+        return m.compute(6, 2) + (100 * m.other(10));
+      } finally {
+        ActiveMutant.set(ActiveMutant.NONE);
+      }
+    }
+  }
+
+  @Test
+  public void shouldRunUnmutatedCodeWhenNoMutantIsActive() throws Exception {
+    final List<Mutant> mutants = getMutants(findMutationsFor(HasMutantsInTwoMethods.class));
+    final Mutant schema = createSchema(mutants);
+    assertThat(mutateAndCall(new CallWithMutant(ActiveMutant.NONE), schema))
+        .isEqualTo(new CallWithMutant(ActiveMutant.NONE).call());
+  }
+
+  @Test
+  public void shouldBehaveAsEachMutantWhenItIsActive() {
+    final List<MutationDetails> details = findMutationsFor(HasMutantsInTwoMethods.class);
+    final List<Mutant> mutants = getMutants(details);
+    assertThat(mutants.size()).isGreaterThan(2);
+
+    final Mutant schema = createSchema(mutants);
+    for (int i = 0; i != mutants.size(); i++) {
+      final Integer expected = mutateAndCall(
+          new CallWithMutant(ActiveMutant.NONE), mutants.get(i));
+      assertThat(mutateAndCall(new CallWithMutant(i), schema))
+          .isEqualTo(expected);
+    }
+  }
+
+  public static class HasStaticInitializer {
+    static final int VALUE = Integer.parseInt("1") + 1;
+  }
+
+  @Test
+  public void shouldNotHoldMutantsInStaticInitializers() {
+    final List<MutationDetails> details = findMutationsFor(HasStaticInitializer.class);
+    assertThat(details).isNotEmpty();
+    assertThat(details.stream().noneMatch(MutantSchemata::canHold)).isTrue();
+  }
+
+  @Test
+  public void shouldHoldMutantsInConstructorsAndMethods() {
+    final List<MutationDetails> details = findMutationsFor(HasMutantsInTwoMethods.class);
+    assertThat(details.stream().allMatch(MutantSchemata::canHold)).isTrue();
+  }
+
+  private Mutant createSchema(final List<Mutant> mutants) {
+    final byte[] bytes = this.testee.createSchema(
+        ClassName.fromClass(HasMutantsInTwoMethods.class), mutants).get();
+    return new Mutant(mutants.get(0).getDetails(), bytes);
+  }
+
+}
@@ -1,6 +1,7 @@
 package org.pitest.mutationtest.execute;
 
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
@@ -16,6 +17,7 @@ import java.util.List;
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
@@ -128,6 +130,20 @@ public class MutationTestWorkerTest {
             .getDescription().getName()));
   }
 
+  @Test
+  public void shouldRunMutationsInTheSameClassConsecutively() throws IOException {
+    final MutationDetails fooOne = makeMutant("foo", 1);
+    final MutationDetails barOne = makeMutant("bar", 1);
+    final MutationDetails fooTwo = makeMutant("foo", 2);
+    final Collection<MutationDetails> range = Arrays.asList(fooOne, barOne,
+        fooTwo);
+    this.testee.run(range, this.reporter, this.testSource);
+    final InOrder inOrder = inOrder(this.reporter);
+    inOrder.verify(this.reporter).describe(fooOne.getId());
+    inOrder.verify(this.reporter).describe(fooTwo.getId());
+    inOrder.verify(this.reporter).describe(barOne.getId());
+  }
+
   private TestUnit makeFailingTest() {
     return new TestUnit() {
 
@@ -14,19 +14,29 @@
  */
 package org.pitest.mutationtest.execute;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.Optional;
+
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.functional.SideEffect;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.testapi.Description;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
 
@@ -51,23 +61,62 @@ public class MutationTimeoutDecoratorTest {
   @Before
   public void setUp() {
     MockitoAnnotations.initMocks(this);
+    when(this.child.getDescription()).thenReturn(new Description("foo"));
     this.testee = new MutationTimeoutDecorator(this.child, this.sideEffect,
         this.timeoutStrategy, NORMAL_EXECUTION);
   }
 
   @Test
   public void shouldCompleteNormallyWhenChildExecutesWithinAllowedTime() {
-    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(
+    when(this.timeoutStrategy.getAllowedTime(anyString(), eq(NORMAL_EXECUTION))).thenReturn(
         1000l);
     this.testee.execute(this.rc);
     verify(this.child).execute(any(ResultCollector.class));
     verify(this.sideEffect, never()).apply();
   }
 
+  @Test
+  public void shouldRecordDurationWhenChildPassesWithinAllowedTime() {
+    when(this.timeoutStrategy.getAllowedTime(anyString(), eq(NORMAL_EXECUTION))).thenReturn(
+        1000l);
+    doAnswer(invocation -> {
+      ((ResultCollector) invocation.getArguments()[0])
+          .notifyEnd(new Description("foo"));
+      return null;
+    }).when(this.child).execute(any(ResultCollector.class));
+
+    this.testee.execute(this.rc);
+    verify(this.timeoutStrategy).recordDuration(eq("foo"), anyLong());
+  }
+
+  @Test
+  public void shouldOnlyRecordDurationOfPassingRuns() {
+    when(this.timeoutStrategy.getAllowedTime(anyString(), eq(NORMAL_EXECUTION))).thenReturn(
+        1000l);
+    doAnswer(invocation -> {
+      ((ResultCollector) invocation.getArguments()[0])
+          .notifyEnd(new Description("foo"), new AssertionError());
+      return null;
+    }).doAnswer(invocation -> {
+      Thread.sleep(50);
+      ((ResultCollector) invocation.getArguments()[0])
+          .notifyEnd(new Description("foo"));
+      return null;
+    }).when(this.child).execute(any(ResultCollector.class));
+
+    this.testee.execute(this.rc);
+    this.testee.execute(this.rc);
+
+    final ArgumentCaptor<Long> duration = ArgumentCaptor.forClass(Long.class);
+    verify(this.timeoutStrategy, times(1)).recordDuration(eq("foo"),
+        duration.capture());
+    assertThat(duration.getValue()).isGreaterThanOrEqualTo(50);
+  }
+
   @Test
   @Ignore("flakey")
   public void shouldApplySideEffectWhenChildRunsForLongerThanAllowedTime() {
-    when(this.timeoutStrategy.getAllowedTime(NORMAL_EXECUTION)).thenReturn(50l);
+    when(this.timeoutStrategy.getAllowedTime(anyString(), eq(NORMAL_EXECUTION))).thenReturn(50l);
 
     doAnswer(invocation -> {
       Thread.sleep(100);
@@ -78,4 +127,22 @@ public class MutationTimeoutDecoratorTest {
     verify(this.child).execute(any(ResultCollector.class));
     verify(this.sideEffect).apply();
   }
+
+  @Test
+  public void shouldRecoverInsteadOfApplyingSideEffectWhenRecoveryEnabled() {
+    final TimeoutRecovery recovery = mock(TimeoutRecovery.class);
+    this.testee = new MutationTimeoutDecorator(this.child, this.sideEffect,
+        this.timeoutStrategy, NORMAL_EXECUTION, Optional.of(recovery));
+    when(this.timeoutStrategy.getAllowedTime(anyString(), eq(NORMAL_EXECUTION))).thenReturn(10l);
+
+    doAnswer(invocation -> {
+      Thread.sleep(5000);
+      return null;
+    }).when(this.child).execute(any(ResultCollector.class));
+
+    this.testee.execute(this.rc);
+    verify(recovery).recover(any(Thread.class));
+    verify(this.rc).notifyEnd(any(Description.class), any(Throwable.class));
+    verify(this.sideEffect, never()).apply();
+  }
 }
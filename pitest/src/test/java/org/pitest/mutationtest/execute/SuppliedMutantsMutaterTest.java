@@ -0,0 +1,76 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+import static org.mockito.Mockito.verify;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+import static org.pitest.mutationtest.engine.MutationDetailsMother.aMutationDetail;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.util.PitError;
+
+public class SuppliedMutantsMutaterTest {
+
+  private final MutationIdentifier supplied = aMutationId().withIndex(1)
+      .build();
+  private final MutationIdentifier other    = aMutationId().withIndex(2)
+      .build();
+
+  @Mock
+  private Mutater                  child;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+  }
+
+  @Test
+  public void shouldReturnSuppliedBytesWithDetailsOfMutation() {
+    final MutationDetails details = aMutationDetail().withId(this.supplied)
+        .build();
+    final byte[] bytes = { 1, 2, 3 };
+    final SuppliedMutantsMutater testee = new SuppliedMutantsMutater(
+        this.child, Collections.singletonList(details),
+        Collections.singletonMap(this.supplied, bytes));
+
+    final Mutant actual = testee.getMutation(this.supplied);
+
+    assertThat(actual.getDetails()).isSameAs(details);
+    assertThat(actual.getBytes()).isSameAs(bytes);
+  }
+
+  @Test
+  public void shouldGenerateMutantsThatWereNotSupplied() {
+    final SuppliedMutantsMutater testee = new SuppliedMutantsMutater(
+        this.child, Collections.<MutationDetails> emptyList(),
+        Collections.singletonMap(this.supplied, new byte[0]));
+
+    testee.getMutation(this.other);
+
+    verify(this.child).getMutation(this.other);
+  }
+
+  @Test
+  public void shouldNameMutationWhenSuppliedBytesHaveNoDetails() {
+    final SuppliedMutantsMutater testee = new SuppliedMutantsMutater(
+        this.child, Collections.<MutationDetails> emptyList(),
+        Collections.singletonMap(this.supplied, new byte[0]));
+
+    try {
+      testee.getMutation(this.supplied);
+      fail();
+    } catch (final PitError e) {
+      assertThat(e.getMessage()).contains(this.supplied.toString());
+    }
+  }
+
+}
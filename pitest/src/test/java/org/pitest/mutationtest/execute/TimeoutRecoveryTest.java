@@ -0,0 +1,96 @@
+package org.pitest.mutationtest.execute;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.util.ExitCode;
+
+public class TimeoutRecoveryTest {
+
+  private TimeoutRecovery        testee;
+
+  @Mock
+  private Reporter               reporter;
+
+  @Mock
+  private HotSwap                hotswap;
+
+  private final CountDownLatch   release = new CountDownLatch(1);
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    this.testee = new TimeoutRecovery(this.reporter, this.hotswap, 1000, 0);
+  }
+
+  @After
+  public void releaseThreads() {
+    this.release.countDown();
+  }
+
+  @Test
+  public void shouldRestoreUnmutatedClass() throws Exception {
+    this.testee.recover(startThread(stopsWhenInterrupted()));
+    verify(this.hotswap).restoreLastClass();
+  }
+
+  @Test
+  public void shouldNotExitWhenTestStopsWhenInterrupted() throws Exception {
+    this.testee.recover(startThread(stopsWhenInterrupted()));
+    verify(this.reporter, never()).done(ExitCode.TIMEOUT);
+  }
+
+  @Test
+  public void shouldExitWhenTooManyTestsCannotBeStopped() throws Exception {
+    this.testee = new TimeoutRecovery(this.reporter, this.hotswap, 10, 0);
+    this.testee.recover(startThread(ignoresInterrupts()));
+    verify(this.reporter).done(ExitCode.TIMEOUT);
+  }
+
+  @Test
+  public void shouldRecordTimeoutUntilCleared() throws Exception {
+    assertFalse(this.testee.clearTimedOut());
+    this.testee.recover(startThread(stopsWhenInterrupted()));
+    assertTrue(this.testee.clearTimedOut());
+    assertFalse(this.testee.clearTimedOut());
+  }
+
+  private static Thread startThread(final Runnable r) {
+    final Thread t = new Thread(r);
+    t.setDaemon(true);
+    t.start();
+    return t;
+  }
+
+  private static Runnable stopsWhenInterrupted() {
+    return () -> {
+      try {
+        Thread.sleep(60000);
+      } catch (final InterruptedException e) {
+        // expected
+      }
+    };
+  }
+
+  private Runnable ignoresInterrupts() {
+    return () -> {
+      while (this.release.getCount() != 0) {
+        try {
+          this.release.await();
+        } catch (final InterruptedException e) {
+          // ignored, as a runaway test might
+        }
+      }
+    };
+  }
+
+}
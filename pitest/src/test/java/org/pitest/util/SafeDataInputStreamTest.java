@@ -43,4 +43,31 @@ public class SafeDataInputStreamTest {
 
   }
 
+  @Test
+  public void shouldReadVarIntsOfAllSizes() {
+    final int[] values = { 0, 1, 127, 128, 16383, 16384, Integer.MAX_VALUE };
+
+    final ByteArrayOutputStream o = new ByteArrayOutputStream();
+    final SafeDataOutputStream dos = new SafeDataOutputStream(o);
+    for (final int each : values) {
+      dos.writeVarInt(each);
+    }
+    dos.flush();
+
+    final SafeDataInputStream dis = new SafeDataInputStream(
+        new ByteArrayInputStream(o.toByteArray()));
+    for (final int each : values) {
+      assertEquals(each, dis.readVarInt());
+    }
+  }
+
+  @Test
+  public void shouldWriteSmallVarIntsAsSingleByte() {
+    final ByteArrayOutputStream o = new ByteArrayOutputStream();
+    final SafeDataOutputStream dos = new SafeDataOutputStream(o);
+    dos.writeVarInt(127);
+    dos.flush();
+    assertEquals(1, o.size());
+  }
+
 }
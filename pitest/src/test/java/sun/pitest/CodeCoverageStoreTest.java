@@ -14,19 +14,23 @@
  */
 package sun.pitest;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.verify;
 
 import java.util.Collection;
 import java.util.Collections;
 import java.util.ConcurrentModificationException;
+import java.util.Map;
 import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.junit.After;
 import org.junit.Before;
@@ -90,12 +94,107 @@ public class CodeCoverageStoreTest {
     final int classId = CodeCoverageStore.registerClass("foo");
 
     boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(classId, 2);
-    ar[0] = true;
+    CodeCoverageStore.classHit(ar, classId);
     ar[1] = true;
     CodeCoverageStore.reset();
 
     final Collection<Long> actual = CodeCoverageStore.getHits();
     assertEquals(Collections.emptyList(), actual);
+    assertFalse(ar[0]);
+    assertFalse(ar[1]);
+  }
+
+  @Test
+  public void shouldReportHitsOnlyForClassesHitSinceReset() {
+    final int foo = CodeCoverageStore.registerClass("foo");
+    final int bar = CodeCoverageStore.registerClass("bar");
+    final boolean[] fooProbes = CodeCoverageStore.getOrRegisterClassProbes(foo, 1);
+    final boolean[] barProbes = CodeCoverageStore.getOrRegisterClassProbes(bar, 1);
+
+    CodeCoverageStore.classHit(fooProbes, foo);
+    fooProbes[1] = true;
+    CodeCoverageStore.reset();
+
+    CodeCoverageStore.classHit(barProbes, bar);
+    barProbes[1] = true;
+
+    assertEquals(Collections.singletonList(CodeCoverageStore.encode(bar, 1)),
+        CodeCoverageStore.getHits());
+  }
+
+  @Test
+  public void shouldRecordEachClassHitOnlyOnce() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    final boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(classId, 1);
+    CodeCoverageStore.classHit(ar, classId);
+    CodeCoverageStore.classHit(ar, classId);
+    ar[1] = true;
+
+    assertEquals(1, CodeCoverageStore.getHits().size());
+  }
+
+  @Test
+  public void shouldRecordClassAsHitWhenProbeHit() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    final boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(classId, 2);
+    CodeCoverageStore.probeHit(ar, 2, classId);
+
+    assertEquals(Collections.singletonList(CodeCoverageStore.encode(classId, 2)),
+        CodeCoverageStore.getHits());
+  }
+
+  @Test
+  public void shouldSeeProbesHitAgainAfterResetByLongLivedThread()
+      throws Exception {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    final boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(classId, 2);
+    final AtomicBoolean running = new AtomicBoolean(true);
+    final Thread t = new Thread(() -> {
+      while (running.get()) {
+        visitConcurrentProbe(ar, 1, classId);
+      }
+    });
+    t.start();
+    try {
+      awaitHit(CodeCoverageStore.encode(classId, 1));
+      CodeCoverageStore.reset();
+      awaitHit(CodeCoverageStore.encode(classId, 1));
+    } finally {
+      running.set(false);
+      t.join();
+    }
+  }
+
+  // the sequence ConcurrentProbeCoverageMethodVisitor inserts for a probe
+  private static void visitConcurrentProbe(final boolean[] probes,
+      final int probe, final int classId) {
+    final int epoch = CodeCoverageStore.probeEpoch;
+    if (!probes[probe]) {
+      CodeCoverageStore.probeHit(probes, probe, classId);
+    }
+  }
+
+  private static void awaitHit(final long hit) throws InterruptedException {
+    final long deadline = System.currentTimeMillis() + 10000;
+    while (!CodeCoverageStore.getHits().contains(hit)) {
+      assertTrue("Probe hit not seen", System.currentTimeMillis() < deadline);
+      Thread.sleep(1);
+    }
+  }
+
+  @Test
+  public void shouldReportHitProbesGroupedByClass() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClass("bar");
+
+    final boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(classId, 3);
+    CodeCoverageStore.classHit(ar, classId);
+    ar[1] = true;
+    ar[3] = true;
+
+    final Map<Integer, int[]> actual = CodeCoverageStore.getHitsByClass();
+    assertEquals(Collections.singleton(classId), actual.keySet());
+    assertArrayEquals(new int[] { 1, 3 }, actual.get(classId));
   }
 
   @Test
@@ -104,7 +203,7 @@ public class CodeCoverageStoreTest {
 
     int classId = CodeCoverageStore.registerClass("foo");
     boolean[] ar = CodeCoverageStore.getOrRegisterClassProbes(classId, 2);
-    ar[0] = true;
+    CodeCoverageStore.classHit(ar, classId);
     ar[1] = true;
 
     final Callable<ConcurrentModificationException> read = makeReader();